@@ -0,0 +1,43 @@
+package de.caransgar.chorehub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the occurrence forecast.
+ * Reads from application.yaml under chorehub.forecast prefix.
+ */
+@Component
+@ConfigurationProperties(prefix = "chorehub.forecast")
+public class ForecastConfigProperties {
+
+    private Duration defaultWindow = Duration.ofDays(28);
+    private Duration maxWindow = Duration.ofDays(366);
+    private int maxOccurrences = 10000;
+
+    public Duration getDefaultWindow() {
+        return defaultWindow;
+    }
+
+    public void setDefaultWindow(Duration defaultWindow) {
+        this.defaultWindow = defaultWindow;
+    }
+
+    public Duration getMaxWindow() {
+        return maxWindow;
+    }
+
+    public void setMaxWindow(Duration maxWindow) {
+        this.maxWindow = maxWindow;
+    }
+
+    public int getMaxOccurrences() {
+        return maxOccurrences;
+    }
+
+    public void setMaxOccurrences(int maxOccurrences) {
+        this.maxOccurrences = maxOccurrences;
+    }
+}
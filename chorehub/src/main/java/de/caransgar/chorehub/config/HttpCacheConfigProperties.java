@@ -0,0 +1,30 @@
+package de.caransgar.chorehub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for HTTP caching of chore responses.
+ * Reads from application.yaml under chorehub.http-cache prefix.
+ */
+@Component
+@ConfigurationProperties(prefix = "chorehub.http-cache")
+public class HttpCacheConfigProperties {
+
+    /**
+     * Longest time a response may be cached. Responses are cached until the next status
+     * transition at most, but a write cannot recall them: this bounds how long it can go unseen.
+     * Zero makes clients revalidate every time.
+     */
+    private Duration maxAge = Duration.ofSeconds(30);
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+}
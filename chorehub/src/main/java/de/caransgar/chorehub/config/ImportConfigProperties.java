@@ -0,0 +1,24 @@
+package de.caransgar.chorehub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the bulk chore import.
+ * Reads from application.yaml under chorehub.import prefix.
+ */
+@Component
+@ConfigurationProperties(prefix = "chorehub.import")
+public class ImportConfigProperties {
+
+    /** Chores saved per transaction; a multiple of the JDBC batch size. */
+    private int chunkSize = 200;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,125 @@
+package de.caransgar.chorehub.config;
+
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.mqtt.CompletionDeduplicator;
+import de.caransgar.chorehub.recurrence.RecurrenceRuleRegistry;
+import de.caransgar.chorehub.repository.UserRepository;
+import de.caransgar.chorehub.services.ChoreReadModel;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Registers ChoreHub's internal caches and counters with Micrometer.
+ * Exposed through the actuator metrics endpoint (/actuator/metrics).
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    /**
+     * Hit/miss counters and size of the compiled recurrence rule registry.
+     */
+    @Bean
+    public MeterBinder recurrenceRuleRegistryMetrics() {
+        return registry -> {
+            FunctionCounter.builder("chorehub.recurrence.rules.lookups", RecurrenceRuleRegistry.class,
+                            r -> RecurrenceRuleRegistry.stats().hits())
+                    .tag("result", "hit")
+                    .description("Recurrence pattern lookups served from the registry")
+                    .register(registry);
+            FunctionCounter.builder("chorehub.recurrence.rules.lookups", RecurrenceRuleRegistry.class,
+                            r -> RecurrenceRuleRegistry.stats().misses())
+                    .tag("result", "miss")
+                    .description("Recurrence pattern lookups that had to parse the pattern")
+                    .register(registry);
+            Gauge.builder("chorehub.recurrence.rules.size", RecurrenceRuleRegistry.class,
+                            r -> RecurrenceRuleRegistry.stats().size())
+                    .description("Number of compiled recurrence rules in the registry")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Done commands dropped as repeats, and chores currently in the suppression window.
+     */
+    @Bean
+    public MeterBinder completionDeduplicationMetrics(CompletionDeduplicator deduplicator) {
+        return registry -> {
+            FunctionCounter.builder("chorehub.mqtt.done.suppressed", deduplicator,
+                            CompletionDeduplicator::suppressedCount)
+                    .description("MQTT done commands dropped as redeliveries or double presses")
+                    .register(registry);
+            Gauge.builder("chorehub.mqtt.done.tracked", deduplicator, CompletionDeduplicator::trackedCount)
+                    .description("Chores with a recent MQTT completion in the suppression window")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Size and overdue chores of the chore read model, and the entries its consistency check had to repair.
+     */
+    @Bean
+    public MeterBinder choreReadModelMetrics(ChoreReadModel readModel) {
+        return registry -> {
+            Gauge.builder("chorehub.readmodel.size", readModel, ChoreReadModel::size)
+                    .description("Chores held in the in-memory read model")
+                    .register(registry);
+            Gauge.builder("chorehub.readmodel.overdue", readModel, ChoreReadModel::overdueCount)
+                    .description("Chores overdue right now, counted from the due date index")
+                    .register(registry);
+            FunctionCounter.builder("chorehub.readmodel.repairs", readModel, ChoreReadModel::repairCount)
+                    .description("Read model entries found inconsistent with the database and repaired")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Hit/miss counters and hit ratio of the user second-level cache regions.
+     * Requires hibernate.generate_statistics; without it all values stay 0.
+     */
+    @Bean
+    public MeterBinder userCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            registerCacheRegion(registry, statistics, User.CACHE_REGION);
+            registerCacheRegion(registry, statistics, UserRepository.BY_NAME_CACHE_REGION);
+        };
+    }
+
+    private static void registerCacheRegion(MeterRegistry registry, Statistics statistics, String region) {
+        FunctionCounter.builder("chorehub.cache.requests", statistics,
+                        s -> regionCount(s, region, CacheRegionStatistics::getHitCount))
+                .tag("region", region)
+                .tag("result", "hit")
+                .description("Second-level cache lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("chorehub.cache.requests", statistics,
+                        s -> regionCount(s, region, CacheRegionStatistics::getMissCount))
+                .tag("region", region)
+                .tag("result", "miss")
+                .description("Second-level cache lookups that had to query the database")
+                .register(registry);
+        Gauge.builder("chorehub.cache.hit.ratio", statistics, s -> {
+                    long hits = regionCount(s, region, CacheRegionStatistics::getHitCount);
+                    long total = hits + regionCount(s, region, CacheRegionStatistics::getMissCount);
+                    return total > 0 ? (double) hits / total : 0.0;
+                })
+                .tag("region", region)
+                .description("Share of second-level cache lookups served from the cache")
+                .register(registry);
+    }
+
+    private static long regionCount(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> count) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics != null ? count.applyAsLong(regionStatistics) : 0;
+    }
+}
@@ -3,6 +3,8 @@ package de.caransgar.chorehub.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for MQTT broker connection.
  * Reads from application.yaml under chorehub.mqtt prefix.
@@ -15,6 +17,12 @@ public class MqttConfigProperties {
     private String username;
     private String password;
     private String clientIdPrefix = "chorehub";
+    /** Chores published per burst when publishing many chores at once (e.g. after a bulk import). */
+    private int publishBatchSize = 20;
+    /** Pause between bursts. */
+    private Duration publishBatchPause = Duration.ofMillis(200);
+    /** Repeated done commands for the same chore within this window are dropped; 0 disables it. */
+    private Duration doneSuppressionWindow = Duration.ofSeconds(5);
 
     public String getBrokerUrl() {
         return brokerUrl;
@@ -47,4 +55,28 @@ public class MqttConfigProperties {
     public void setClientIdPrefix(String clientIdPrefix) {
         this.clientIdPrefix = clientIdPrefix;
     }
+
+    public int getPublishBatchSize() {
+        return publishBatchSize;
+    }
+
+    public void setPublishBatchSize(int publishBatchSize) {
+        this.publishBatchSize = publishBatchSize;
+    }
+
+    public Duration getPublishBatchPause() {
+        return publishBatchPause;
+    }
+
+    public void setPublishBatchPause(Duration publishBatchPause) {
+        this.publishBatchPause = publishBatchPause;
+    }
+
+    public Duration getDoneSuppressionWindow() {
+        return doneSuppressionWindow;
+    }
+
+    public void setDoneSuppressionWindow(Duration doneSuppressionWindow) {
+        this.doneSuppressionWindow = doneSuppressionWindow;
+    }
 }
@@ -1,5 +1,6 @@
 package de.caransgar.chorehub.config;
 
+import de.caransgar.chorehub.mqtt.ChoreMqttTopics;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -94,7 +95,7 @@ public class MqttConfiguration {
 
     /**
      * Inbound MQTT adapter listening for chore commands.
-     * Subscribes to topics like: chorehub/chores/+/done/set
+     * Subscribes to topics like: chorehub/chores/+/done/set and chorehub/chores/done/set
      */
     @Bean
     public MessageProducer mqttInbound(MqttPahoClientFactory clientFactory) {
@@ -103,7 +104,8 @@ public class MqttConfiguration {
                         mqttConfig.getBrokerUrl(),
                         mqttConfig.getClientIdPrefix() + "-subscriber-" + System.currentTimeMillis(),
                         clientFactory,
-                        "chorehub/chores/+/done/set");
+                        "chorehub/chores/+/done/set",
+                        ChoreMqttTopics.bulkDoneCommandTopic());
 
         adapter.setQos(1);
         adapter.setConverter(new DefaultPahoMessageConverter());
@@ -0,0 +1,36 @@
+package de.caransgar.chorehub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory chore read model.
+ * Reads from application.yaml under chorehub.read-model prefix.
+ */
+@Component
+@ConfigurationProperties(prefix = "chorehub.read-model")
+public class ReadModelConfigProperties {
+
+    /** Serve chore lists from memory; otherwise every request queries the database. */
+    private boolean enabled = false;
+    /** Interval of the comparison of the read model against the database. */
+    private Duration consistencyCheckInterval = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getConsistencyCheckInterval() {
+        return consistencyCheckInterval;
+    }
+
+    public void setConsistencyCheckInterval(Duration consistencyCheckInterval) {
+        this.consistencyCheckInterval = consistencyCheckInterval;
+    }
+}
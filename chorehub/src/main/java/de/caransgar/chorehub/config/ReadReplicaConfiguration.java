@@ -0,0 +1,64 @@
+package de.caransgar.chorehub.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured datasource with a read/write router when a replica is configured
+ * (chorehub.datasource.replica.url).
+ *
+ * Transactions marked {@code readOnly} read from the replica, so dashboard and polling load stays
+ * off the primary. Writes, read-write transactions including the reads inside them, and everything
+ * outside a transaction such as Flyway and Hibernate's schema validation use the primary.
+ * Reads on the replica may lag behind the primary by the replication delay; lookups that precede
+ * a write are therefore not marked read-only.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "chorehub.datasource.replica", name = "url")
+public class ReadReplicaConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaConfiguration.class);
+
+    /**
+     * The router every component uses.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica) {
+        // Defers fetching the physical connection until the transaction's read-only flag is set
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+    }
+
+    /**
+     * The primary, configured under spring.datasource. Not injected by type, only through the router.
+     */
+    @Bean(defaultCandidate = false)
+    public DataSource primaryDataSource(DataSourceProperties primaryProperties) {
+        return primaryProperties.initializeDataSourceBuilder().build();
+    }
+
+    /**
+     * The replica, configured under chorehub.datasource.replica. Not injected by type, only through the router.
+     */
+    @Bean(defaultCandidate = false)
+    public DataSource replicaDataSource(ReplicaDataSourceConfigProperties replicaProperties) {
+        LOG.info("Routing read-only transactions to replica {}", replicaProperties.getUrl());
+        return DataSourceBuilder.create()
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .driverClassName(replicaProperties.getDriverClassName())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package de.caransgar.chorehub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk recomputation of next due dates.
+ * Reads from application.yaml under chorehub.recompute prefix.
+ */
+@Component
+@ConfigurationProperties(prefix = "chorehub.recompute")
+public class RecomputeConfigProperties {
+
+    private int chunkSize = 500;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+}
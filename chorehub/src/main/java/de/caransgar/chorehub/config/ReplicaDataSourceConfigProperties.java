@@ -0,0 +1,53 @@
+package de.caransgar.chorehub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the optional read replica.
+ * Reads from application.yaml under chorehub.datasource.replica prefix.
+ * Without a url all transactions use the primary datasource.
+ */
+@Component
+@ConfigurationProperties(prefix = "chorehub.datasource.replica")
+public class ReplicaDataSourceConfigProperties {
+
+    /** JDBC url of the replica; read-only transactions are routed to it when set. */
+    private String url;
+    private String username;
+    private String password;
+    /** Defaults to the driver detected from the url. */
+    private String driverClassName;
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+
+    public void setDriverClassName(String driverClassName) {
+        this.driverClassName = driverClassName;
+    }
+}
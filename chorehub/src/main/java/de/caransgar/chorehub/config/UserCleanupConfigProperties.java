@@ -0,0 +1,36 @@
+package de.caransgar.chorehub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cleanup of soft-deleted users.
+ * Reads from application.yaml under chorehub.user-cleanup prefix.
+ */
+@Component
+@ConfigurationProperties(prefix = "chorehub.user-cleanup")
+public class UserCleanupConfigProperties {
+
+    /** Deleted users removed per transaction. */
+    private int chunkSize = 500;
+    /** Interval of the scheduled cleanup. */
+    private Duration interval = Duration.ofHours(24);
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+}
@@ -0,0 +1,88 @@
+package de.caransgar.chorehub.controller;
+
+import de.caransgar.chorehub.config.HttpCacheConfigProperties;
+import de.caransgar.chorehub.dto.ChoreDTO;
+import de.caransgar.chorehub.mqtt.ChoreStatePublisher;
+import de.caransgar.chorehub.mqtt.ChoreTransitionScheduler;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache-Control and Expires headers for chore responses.
+ *
+ * A chore response only changes on its own when a computed status changes, i.e. when a due date
+ * passes (see {@link ChoreStatePublisher#nextStatusChange}), or for the due chore lists at local
+ * midnight. Responses are cached until the earliest such instant, but never longer than
+ * chorehub.http-cache.max-age: a write cannot recall a cached response, so that bounds how long
+ * it can go unseen. Revalidation with the response's ETag is cheap either way.
+ */
+@Component
+public class ChoreCacheControl {
+
+    private final HttpCacheConfigProperties config;
+    private final ChoreTransitionScheduler transitionScheduler;
+
+    public ChoreCacheControl(HttpCacheConfigProperties config, ChoreTransitionScheduler transitionScheduler) {
+        this.config = config;
+        this.transitionScheduler = transitionScheduler;
+    }
+
+    /**
+     * @return the earliest status change among the given chores, or null if none of them changes on its own
+     */
+    public static LocalDateTime nextStatusChange(Collection<ChoreDTO> chores, LocalDateTime now) {
+        LocalDateTime next = null;
+        for (ChoreDTO chore : chores) {
+            next = earliest(next,
+                    ChoreStatePublisher.nextStatusChange(chore.getLastCompletedDate(), chore.getNextDueDate(), now));
+        }
+        return next;
+    }
+
+    /**
+     * @return the earliest status change of any chore, or null if none is pending; never accesses the database.
+     *         For responses whose chores are not at hand, e.g. 304 Not Modified, or whose selection depends
+     *         on the status.
+     */
+    public LocalDateTime nextStatusChangeOfAnyChore() {
+        return transitionScheduler.nextTransition();
+    }
+
+    /**
+     * @return the earlier of two instants, where null means never
+     */
+    public static LocalDateTime earliest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first.isBefore(second) ? first : second;
+    }
+
+    /**
+     * Let the response be cached until the given instant, at most for the configured maximum age.
+     * @param builder    the response to add the headers to
+     * @param now        the time the response was computed for
+     * @param validUntil the instant up to which the response stays valid, or null if it does not expire
+     * @return the builder
+     */
+    public <B extends ResponseEntity.HeadersBuilder<B>> B cacheUntil(B builder, LocalDateTime now,
+            LocalDateTime validUntil) {
+        long maxAge = Math.max(0, config.getMaxAge().toSeconds());
+        if (validUntil != null) {
+            // Whole seconds, rounded down, so the response never outlives its status
+            maxAge = Math.max(0, Math.min(maxAge, Duration.between(now, validUntil).toSeconds()));
+        }
+        ZonedDateTime expires = now.atZone(ZoneId.systemDefault()).plusSeconds(maxAge);
+        return builder
+                .cacheControl(CacheControl.maxAge(maxAge, TimeUnit.SECONDS))
+                .headers(headers -> headers.setExpires(expires));
+    }
+}
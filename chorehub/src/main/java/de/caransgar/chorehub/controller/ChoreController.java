@@ -1,12 +1,32 @@
 package de.caransgar.chorehub.controller;
 
+import de.caransgar.chorehub.config.ForecastConfigProperties;
+import de.caransgar.chorehub.dto.BulkDoneRequest;
+import de.caransgar.chorehub.dto.BulkMutationRequest;
+import de.caransgar.chorehub.dto.ChoreSort;
 import de.caransgar.chorehub.dto.CreateChoreRequest;
 import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreStatus;
+import de.caransgar.chorehub.entity.RecurrenceType;
 import de.caransgar.chorehub.entity.User;
 import de.caransgar.chorehub.dto.ChoreDTO;
+import de.caransgar.chorehub.mqtt.ChoreStatePublisher;
+import de.caransgar.chorehub.services.CalendarFeedService;
+import de.caransgar.chorehub.services.ChoreBulkMutationService;
+import de.caransgar.chorehub.services.ChoreDataVersion;
+import de.caransgar.chorehub.services.ChoreImportService;
+import de.caransgar.chorehub.services.ChoreReadModel;
 import de.caransgar.chorehub.services.ChoreService;
+import de.caransgar.chorehub.services.ChoreVersionMismatchException;
+import de.caransgar.chorehub.services.DueDateRecomputationService;
+import de.caransgar.chorehub.services.ForecastService;
 import de.caransgar.chorehub.services.UserService;
+import de.caransgar.chorehub.utils.TimeUtils;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,9 +34,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,21 +50,134 @@ import java.util.Optional;
 @RequestMapping("/chores")
 public class ChoreController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_HISTORY_LIMIT = 100;
+    private static final int DEFAULT_CHORE_LIMIT = 100;
+    private static final int MAX_CHORE_LIMIT = 500;
+    private static final int MAX_UPCOMING_LIMIT = 100;
+    private static final String OVERDUE_ETAG_SUFFIX = "-overdue";
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
     private final ChoreService choreService;
     private final UserService userService;
+    private final DueDateRecomputationService recomputationService;
+    private final ForecastService forecastService;
+    private final ForecastConfigProperties forecastConfig;
+    private final CalendarFeedService calendarFeedService;
+    private final ChoreImportService importService;
+    private final ChoreBulkMutationService bulkMutationService;
+    private final ChoreReadModel readModel;
+    private final ChoreDataVersion dataVersion;
+    private final ChoreCacheControl cacheControl;
 
-    public ChoreController(ChoreService choreService, UserService userService) {
+    public ChoreController(ChoreService choreService, UserService userService,
+            DueDateRecomputationService recomputationService, ForecastService forecastService,
+            ForecastConfigProperties forecastConfig, CalendarFeedService calendarFeedService,
+            ChoreImportService importService, ChoreBulkMutationService bulkMutationService,
+            ChoreReadModel readModel, ChoreDataVersion dataVersion, ChoreCacheControl cacheControl) {
         this.choreService = choreService;
         this.userService = userService;
+        this.recomputationService = recomputationService;
+        this.forecastService = forecastService;
+        this.forecastConfig = forecastConfig;
+        this.calendarFeedService = calendarFeedService;
+        this.importService = importService;
+        this.bulkMutationService = bulkMutationService;
+        this.readModel = readModel;
+        this.dataVersion = dataVersion;
+        this.cacheControl = cacheControl;
     }
 
+    /**
+     * List chores, one page at a time.
+     * 
+     * Without {@code limit} and {@code after} all matching chores are returned,
+     * as before paging was added. Otherwise, if more chores match, the cursor for
+     * the next page is returned in the X-Next-Cursor header and can be passed as
+     * {@code after} with the same filters and sort. Served from the in-memory read model when it is enabled.
+     * Unchanged lists are answered with 304 Not Modified based on the ETag alone,
+     * without any database access. Responses may be cached until a returned chore
+     * changes its status, see {@link ChoreCacheControl}.
+     *
+     * @param username       only chores assigned to this user
+     * @param recurrenceType only chores with this recurrence type
+     * @param status         only chores currently in this status (done, due, overdue)
+     * @param dueFrom        only chores due at or after this time
+     * @param dueTo          only chores due before this time
+     * @param sort           id or nextDueDate, optionally followed by ",desc" (default id)
+     * @param after          the cursor of the previous page
+     * @param limit          the page size, 1 to 500 (default 100 with {@code after}, otherwise unpaged)
+     * @param webRequest     the request, for the If-None-Match check
+     * @return ResponseEntity with the list of ChoreDTO objects
+     */
     @GetMapping
-    public ResponseEntity<?> getAllChores() {
-        var chores = choreService.getAllChores();
-        var choresDTO = chores.stream()
-                .map(this::toChoreDTO)
-                .toList();
-        return ResponseEntity.ok(choresDTO);
+    public ResponseEntity<?> getAllChores(
+            @RequestParam(name = "user", required = false) String username,
+            @RequestParam(required = false) String recurrenceType,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        try {
+            if (limit == null) {
+                limit = after == null ? ChoreService.UNPAGED : DEFAULT_CHORE_LIMIT;
+            } else if (limit < 1 || limit > MAX_CHORE_LIMIT) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ErrorResponse("Limit must be between 1 and " + MAX_CHORE_LIMIT));
+            }
+            String eTag = dataVersion.collectionETag();
+            LocalDateTime now = LocalDateTime.now();
+            if (webRequest.checkNotModified(eTag)) {
+                return notModified(eTag, now, cacheControl.nextStatusChangeOfAnyChore());
+            }
+            User user = null;
+            if (username != null) {
+                Optional<User> found = userService.getUserByName(username);
+                if (found.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(new ErrorResponse("User with name '" + username + "' not found"));
+                }
+                user = found.get();
+            }
+
+            ChoreService.ChoreFilter filter = new ChoreService.ChoreFilter(
+                    user,
+                    recurrenceType != null ? RecurrenceType.valueOf(recurrenceType) : null,
+                    status != null ? ChoreStatus.fromHaValue(status) : null,
+                    dueFrom,
+                    dueTo);
+            List<ChoreDTO> chores;
+            String nextCursor;
+            if (readModel.isServing()) {
+                ChoreReadModel.ChoreDTOPage page = readModel.findChores(filter, ChoreSort.parse(sort), after, limit);
+                chores = page.chores();
+                nextCursor = page.nextCursor();
+            } else {
+                ChoreService.ChorePage page = choreService.findChores(filter, ChoreSort.parse(sort), after, limit);
+                chores = page.chores().stream()
+                        .map(this::toChoreDTO)
+                        .toList();
+                nextCursor = page.nextCursor();
+            }
+
+            // With a status filter, any chore changing its status can change the selection
+            LocalDateTime validUntil = filter.status() != null
+                    ? cacheControl.nextStatusChangeOfAnyChore()
+                    : ChoreCacheControl.nextStatusChange(chores, now);
+            var response = cacheControl.cacheUntil(ResponseEntity.ok().eTag(eTag), now, validUntil);
+            if (nextCursor != null) {
+                response.header(NEXT_CURSOR_HEADER, nextCursor);
+            }
+            return response.body(chores);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
     }
 
     /**
@@ -99,16 +238,152 @@ public class ChoreController {
     }
 
 
+    /**
+     * Mark a chore as done.
+     * 
+     * With an {@code If-Match} header the chore is only completed if it is still
+     * at that version (the ETag of a previous response), otherwise 412 is returned.
+     *
+     * @param choreId the chore to complete
+     * @param ifMatch optional ETag the completion is based on
+     * @return ResponseEntity with the completed chore and its new ETag
+     */
     @PostMapping("/{choreId}/done")
-    public ResponseEntity<?> choreDone(@PathVariable Long choreId) {
+    public ResponseEntity<?> choreDone(@PathVariable Long choreId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            Optional<Chore> updated = choreService.markChoreAsDone(choreId);
+            Optional<Chore> updated = choreService.markChoreAsDone(choreId, parseIfMatch(ifMatch));
             if (updated.isPresent()) {
-                return ResponseEntity.ok(toChoreDTO(updated.get()));
+                return choreResponse(updated.get());
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(new ErrorResponse("Chore with id '" + choreId + "' not found"));
             }
+        } catch (ChoreVersionMismatchException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new ErrorResponse(e.getMessage()));
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(
+                            "Chore with id '" + choreId + "' is being changed concurrently, retry later"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Mark many chores as done in one transaction.
+     *
+     * Ids without a chore are reported and skipped; all other chores are completed.
+     * The optional notes are stored with every completion. If the chores keep being
+     * changed concurrently, 409 is returned and nothing is completed.
+     *
+     * @param request the chore ids and optional notes
+     * @return ResponseEntity with the completed chores and the ids that were not found
+     */
+    @PostMapping("/done")
+    public ResponseEntity<?> choresDone(@RequestBody BulkDoneRequest request) {
+        try {
+            if (request == null) {
+                throw new IllegalArgumentException("Request body is required");
+            }
+            ChoreService.BulkCompletionResult result =
+                    choreService.markChoresAsDone(request.getChoreIds(), request.getNotes());
+            List<ChoreDTO> completed = result.completed().stream().map(this::toChoreDTO).toList();
+            return ResponseEntity.ok(new BulkDoneResponse(completed, result.notFound()));
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse("Chores are being changed concurrently, retry later"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Apply one change to many chores at once.
+     * 
+     * Chores are selected by {@code choreIds} or by {@code currentAssignee}; the
+     * action reassigns, changes the recurrence of, or deletes all of them in one
+     * transaction.
+     *
+     * @param request the action and the chores to apply it to
+     * @return ResponseEntity with the changed chore ids and the ids that were not found
+     */
+    @PostMapping("/bulk-mutation")
+    public ResponseEntity<?> mutateChores(@RequestBody BulkMutationRequest request) {
+        try {
+            return ResponseEntity.ok(bulkMutationService.mutate(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Import many chores at once.
+     * 
+     * Accepts NDJSON (application/x-ndjson, one chore per line) or a JSON array
+     * (application/json) of CreateChoreRequest objects, read as a stream. Invalid
+     * chores are reported per line and skipped; all valid chores are created.
+     *
+     * @param body        the request body
+     * @param contentType the request content type
+     * @return ResponseEntity with the import report
+     */
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<?> importChores(InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType) {
+        try {
+            ChoreImportService.Format format = MediaType.parseMediaType(contentType)
+                    .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                            ? ChoreImportService.Format.NDJSON
+                            : ChoreImportService.Format.JSON_ARRAY;
+            return ResponseEntity.ok(importService.importChores(body, format));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get a chore's completions, newest first.
+     * 
+     * If more entries exist, the cursor for the next page is returned in the
+     * X-Next-Cursor header and can be passed as {@code after}.
+     *
+     * @param choreId the chore id
+     * @param after   the cursor of the previous page
+     * @param limit   the page size, 1 to 100 (default 10)
+     * @return ResponseEntity with the list of ChoreHistoryDTO objects
+     */
+    @GetMapping("/{choreId}/history")
+    public ResponseEntity<?> getChoreHistory(@PathVariable Long choreId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        try {
+            if (limit < 1 || limit > MAX_HISTORY_LIMIT) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ErrorResponse("Limit must be between 1 and " + MAX_HISTORY_LIMIT));
+            }
+            Optional<ChoreService.HistoryPage> page = choreService.getHistory(choreId, after, limit);
+            if (page.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ErrorResponse("Chore with id '" + choreId + "' not found"));
+            }
+            var response = ResponseEntity.ok();
+            if (page.get().nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.get().nextCursor());
+            }
+            return response.body(page.get().entries());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
@@ -121,17 +396,25 @@ public class ChoreController {
      * Get all due or overdue chores.
      * 
      * Returns chores where nextDueDate is before tomorrow at 00:00.
+     * Served from the in-memory read model when it is enabled. Unchanged lists
+     * are answered with 304 Not Modified without any database access.
      *
+     * @param webRequest the request, for the If-None-Match check
      * @return ResponseEntity with list of due ChoreDTO objects
      */
     @GetMapping("/due")
-    public ResponseEntity<?> getDueChores() {
+    public ResponseEntity<?> getDueChores(WebRequest webRequest) {
         try {
-            var dueChores = choreService.getDueChores();
-            var choresDTO = dueChores.stream()
-                    .map(this::toChoreDTO)
-                    .toList();
-            return ResponseEntity.ok(choresDTO);
+            String eTag = dataVersion.collectionETag();
+            LocalDateTime now = LocalDateTime.now();
+            if (webRequest.checkNotModified(eTag)) {
+                return notModified(eTag, now, ChoreCacheControl.earliest(
+                        cacheControl.nextStatusChangeOfAnyChore(), TimeUtils.getStartOfTomorrow(now)));
+            }
+            List<ChoreDTO> chores = readModel.isServing()
+                    ? readModel.getDueChores(null)
+                    : choreService.getDueChoreDTOs();
+            return dueChoresResponse(eTag, now, chores);
         } catch (Exception e) {
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -143,23 +426,30 @@ public class ChoreController {
      * Get all due or overdue chores for a specific user.
      * 
      * Returns chores assigned to the specified user where nextDueDate is before
-     * tomorrow at 00:00.
+     * tomorrow at 00:00. Served from the in-memory read model when it is enabled.
+     * Unchanged lists are answered with 304 Not Modified without any database access.
      *
-     * @param username the username of the assigned user
+     * @param username   the username of the assigned user
+     * @param webRequest the request, for the If-None-Match check
      * @return ResponseEntity with list of due ChoreDTO objects for the user
      */
     @GetMapping("/due/user/{username}")
-    public ResponseEntity<?> getUserDueChores(@PathVariable String username) {
+    public ResponseEntity<?> getUserDueChores(@PathVariable String username, WebRequest webRequest) {
         try {
+            String eTag = dataVersion.collectionETag();
+            LocalDateTime now = LocalDateTime.now();
+            if (webRequest.checkNotModified(eTag)) {
+                return notModified(eTag, now, ChoreCacheControl.earliest(
+                        cacheControl.nextStatusChangeOfAnyChore(), TimeUtils.getStartOfTomorrow(now)));
+            }
             User user = userService.getUserByName(username)
                     .orElseThrow(() -> new IllegalArgumentException(
                             "User with name '" + username + "' not found"));
 
-            var dueChores = choreService.getDueChores(user);
-            var choresDTO = dueChores.stream()
-                    .map(this::toChoreDTO)
-                    .toList();
-            return ResponseEntity.ok(choresDTO);
+            List<ChoreDTO> chores = readModel.isServing()
+                    ? readModel.getDueChores(user.getId())
+                    : choreService.getDueChoreDTOs(user);
+            return dueChoresResponse(eTag, now, chores);
         } catch (IllegalArgumentException e) {
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
@@ -171,12 +461,160 @@ public class ChoreController {
         }
     }
 
+    /**
+     * Get the chores due first, e.g. "the next 5 chores" of a person on a dashboard.
+     * 
+     * Overdue chores are included; chores without a due date are not. Only the
+     * first entries of the due date index are read, so the cost depends on the
+     * limit, not on the number of chores. Unchanged lists are answered with
+     * 304 Not Modified without any database access.
+     *
+     * @param username   only chores assigned to this user
+     * @param limit      the number of chores, 1 to 100 (default 5)
+     * @param webRequest the request, for the If-None-Match check
+     * @return ResponseEntity with the ChoreDTO objects ordered by due date
+     */
+    @GetMapping("/upcoming")
+    public ResponseEntity<?> getUpcomingChores(@RequestParam(name = "user", required = false) String username,
+            @RequestParam(required = false, defaultValue = "5") int limit, WebRequest webRequest) {
+        try {
+            if (limit < 1 || limit > MAX_UPCOMING_LIMIT) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ErrorResponse("Limit must be between 1 and " + MAX_UPCOMING_LIMIT));
+            }
+            String eTag = dataVersion.collectionETag();
+            LocalDateTime now = LocalDateTime.now();
+            if (webRequest.checkNotModified(eTag)) {
+                return notModified(eTag, now, cacheControl.nextStatusChangeOfAnyChore());
+            }
+            User user = null;
+            if (username != null) {
+                Optional<User> found = userService.getUserByName(username);
+                if (found.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(new ErrorResponse("User with name '" + username + "' not found"));
+                }
+                user = found.get();
+            }
+
+            List<ChoreDTO> chores = readModel.isServing()
+                    ? readModel.getUpcomingChores(user != null ? user.getId() : null, limit)
+                    : choreService.getUpcomingChoreDTOs(user, limit);
+            return cacheControl.cacheUntil(ResponseEntity.ok().eTag(eTag), now,
+                    ChoreCacheControl.nextStatusChange(chores, now)).body(chores);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Forecast chore occurrences within a time window.
+     * 
+     * Expands every chore's recurrence into concrete occurrences, assuming chores
+     * are completed when due. Defaults to the configured window (4 weeks) from now.
+     *
+     * @param from     start of the window (inclusive), defaults to now
+     * @param to       end of the window (exclusive), defaults to from plus the default window
+     * @param username only forecast chores assigned to this user
+     * @param limit    maximum number of occurrences to return
+     * @return ResponseEntity with the occurrences ordered by due date
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<?> getForecast(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "user", required = false) String username,
+            @RequestParam(required = false, defaultValue = "0") int limit) {
+        try {
+            User user = null;
+            if (username != null) {
+                Optional<User> found = userService.getUserByName(username);
+                if (found.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(new ErrorResponse("User with name '" + username + "' not found"));
+                }
+                user = found.get();
+            }
+
+            LocalDateTime start = from != null ? from : LocalDateTime.now();
+            LocalDateTime end = to != null ? to : start.plus(forecastConfig.getDefaultWindow());
+            return ResponseEntity.ok(forecastService.forecast(start, end, user, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get all chores as an iCalendar feed.
+     * 
+     * Unchanged feeds are answered with 304 Not Modified based on the ETag alone,
+     * without any database access.
+     *
+     * @param username   only include chores assigned to this user
+     * @param webRequest the request, for the If-None-Match check
+     * @return ResponseEntity with the text/calendar feed
+     */
+    @GetMapping("/calendar.ics")
+    public ResponseEntity<?> getCalendar(@RequestParam(name = "user", required = false) String username,
+            WebRequest webRequest) {
+        try {
+            if (webRequest.checkNotModified(calendarFeedService.getETag())) {
+                return null;
+            }
+            if (username != null && userService.getUserByName(username).isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(new ErrorResponse("User with name '" + username + "' not found"));
+            }
+
+            CalendarFeedService.CalendarFeed feed = calendarFeedService.getFeed(username);
+            return ResponseEntity.ok()
+                    .eTag(feed.eTag())
+                    .contentType(TEXT_CALENDAR)
+                    .body(feed.content());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get a single chore, with its version as ETag.
+     * 
+     * With the read model enabled, a matching If-None-Match is answered with
+     * 304 Not Modified from the chore's in-memory version, without any database access.
+     * The response may be cached until the chore's status changes.
+     *
+     * @param id         the chore to get
+     * @param webRequest the request, for the If-None-Match check
+     * @return ResponseEntity with the chore
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getChoreById(@PathVariable Long id) {
+    public ResponseEntity<?> getChoreById(@PathVariable Long id, WebRequest webRequest) {
         try {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<ChoreReadModel.ChoreSnapshot> snapshot = readModel.isServing()
+                    ? readModel.getChore(id) : Optional.empty();
+            if (snapshot.isPresent()) {
+                String eTag = versionETag(snapshot.get().version(), snapshot.get().status(now));
+                if (webRequest.checkNotModified(eTag)) {
+                    return notModified(eTag, now, ChoreStatePublisher.nextStatusChange(
+                            snapshot.get().lastCompletedDate(), snapshot.get().nextDueDate(), now));
+                }
+            }
+            // Otherwise read from the primary as before; a matching ETag still skips the body
             Optional<Chore> chore = choreService.getChoreById(id);
             if (chore.isPresent()) {
-                return ResponseEntity.ok(toChoreDTO(chore.get()));
+                ChoreDTO dto = toChoreDTO(chore.get());
+                return cacheControl.cacheUntil(
+                        ResponseEntity.ok().eTag(versionETag(chore.get().getVersion(), dto.getStatus())), now,
+                        ChoreCacheControl.nextStatusChange(List.of(dto), now))
+                        .body(dto);
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(new ErrorResponse("Chore with id '" + id + "' not found"));
@@ -187,33 +625,54 @@ public class ChoreController {
         }
     }
 
+    /**
+     * Update a chore; only the given fields are changed.
+     * 
+     * With an {@code If-Match} header the chore is only updated if it is still
+     * at that version (the ETag of a previous response), otherwise 412 is returned.
+     *
+     * @param id      the chore to update
+     * @param request the fields to change
+     * @param ifMatch optional ETag the update is based on
+     * @return ResponseEntity with the updated chore and its new ETag
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateChore(@PathVariable Long id, @RequestBody CreateChoreRequest request) {
+    public ResponseEntity<?> updateChore(@PathVariable Long id, @RequestBody CreateChoreRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            Chore chore = choreService.getChoreById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("Chore with id '" + id + "' not found"));
-
-            if (request.getName() != null && !request.getName().isBlank()) {
-                chore.setName(request.getName());
-            }
-            if (request.getDescription() != null) {
-                chore.setDescription(request.getDescription());
-            }
-            if (request.getRecurrenceType() != null) {
-                chore.setRecurrenceType(request.getRecurrenceType());
-            }
-            if (request.getRecurrencePattern() != null) {
-                chore.setRecurrencePattern(request.getRecurrencePattern());
-            }
+            Long expectedVersion = parseIfMatch(ifMatch);
+            User assigned = null;
             if (request.getAssignedUsername() != null) {
-                User assigned = userService.getUserByName(request.getAssignedUsername())
+                assigned = userService.getUserByName(request.getAssignedUsername())
                         .orElseThrow(() -> new IllegalArgumentException(
                                 "User with name '" + request.getAssignedUsername() + "' not found"));
-                chore.setAssignedUser(assigned);
             }
+            User assignedUser = assigned;
+
+            Chore saved = choreService.updateChore(id, expectedVersion, chore -> {
+                if (request.getName() != null && !request.getName().isBlank()) {
+                    chore.setName(request.getName());
+                }
+                if (request.getDescription() != null) {
+                    chore.setDescription(request.getDescription());
+                }
+                if (request.getRecurrenceType() != null) {
+                    chore.setRecurrenceType(request.getRecurrenceType());
+                }
+                if (request.getRecurrencePattern() != null) {
+                    chore.setRecurrencePattern(request.getRecurrencePattern());
+                }
+                if (assignedUser != null) {
+                    chore.setAssignedUser(assignedUser);
+                }
+            }).orElseThrow(() -> new IllegalArgumentException("Chore with id '" + id + "' not found"));
 
-            Chore saved = choreService.saveChore(chore);
-            return ResponseEntity.ok(toChoreDTO(saved));
+            return choreResponse(saved);
+        } catch (ChoreVersionMismatchException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new ErrorResponse(e.getMessage()));
+        } catch (ConcurrencyFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse("Chore with id '" + id + "' is being changed concurrently, retry later"));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(e.getMessage()));
         } catch (Exception e) {
@@ -237,6 +696,42 @@ public class ChoreController {
         }
     }
 
+    /**
+     * Recompute the next due date of all recurring chores.
+     * 
+     * Admin operation for timezone changes, DST edges or bulk pattern edits.
+     * Runs synchronously and returns the final progress; MQTT state is republished
+     * only for chores whose due date changed.
+     *
+     * @return ResponseEntity with the recomputation progress, or 409 if a run is in progress
+     */
+    @PostMapping("/recompute-due-dates")
+    public ResponseEntity<?> recomputeDueDates() {
+        try {
+            return ResponseEntity.ok(recomputationService.recomputeAll());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("An unexpected error occurred: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Get the progress of the running or last due date recomputation.
+     *
+     * @return ResponseEntity with the progress, or 404 if no recomputation ran yet
+     */
+    @GetMapping("/recompute-due-dates")
+    public ResponseEntity<?> getRecomputeProgress() {
+        var progress = recomputationService.getProgress();
+        if (progress == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse("No due date recomputation has run yet"));
+        }
+        return ResponseEntity.ok(progress);
+    }
+
     /**
      * Simple error response DTO for API responses.
      */
@@ -256,6 +751,74 @@ public class ChoreController {
         }
     }
 
+    /**
+     * Response of a bulk completion.
+     * @param completed the completed chores, in request order
+     * @param notFound  the requested ids without a chore
+     */
+    public record BulkDoneResponse(List<ChoreDTO> completed, List<Long> notFound) {}
+
+    /**
+     * Due chores change on their own when a status changes and at midnight, when the next day's
+     * chores become due.
+     */
+    private ResponseEntity<?> dueChoresResponse(String eTag, LocalDateTime now, List<ChoreDTO> chores) {
+        LocalDateTime validUntil = ChoreCacheControl.earliest(ChoreCacheControl.nextStatusChange(chores, now),
+                TimeUtils.getStartOfTomorrow(now));
+        return cacheControl.cacheUntil(ResponseEntity.ok().eTag(eTag), now, validUntil).body(chores);
+    }
+
+    /**
+     * 304 Not Modified for a matching If-None-Match. Its cache headers replace those stored with
+     * the cached response, so they must not outlive any status change of the cached chores.
+     */
+    private ResponseEntity<?> notModified(String eTag, LocalDateTime now, LocalDateTime validUntil) {
+        return cacheControl.cacheUntil(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag), now, validUntil)
+                .build();
+    }
+
+    /**
+     * A single chore with its ETag.
+     */
+    private ResponseEntity<ChoreDTO> choreResponse(Chore chore) {
+        ChoreDTO dto = toChoreDTO(chore);
+        return ResponseEntity.ok().eTag(versionETag(chore.getVersion(), dto.getStatus())).body(dto);
+    }
+
+    /**
+     * The ETag of a single chore: its version, marked once the chore is overdue. The computed
+     * status changes when the due date passes, without changing the version.
+     */
+    private static String versionETag(long version, ChoreStatus status) {
+        return "\"" + version + (status == ChoreStatus.OVERDUE ? OVERDUE_ETAG_SUFFIX : "") + "\"";
+    }
+
+    /**
+     * Parses an If-Match header into the chore version it requires.
+     * 
+     * @param ifMatch the header value
+     * @return the required version, or null if the header is absent or "*"
+     * @throws IllegalArgumentException if the header is not a single chore ETag
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            String version = tag.substring(1, tag.length() - 1);
+            if (version.endsWith(OVERDUE_ETAG_SUFFIX)) {
+                version = version.substring(0, version.length() - OVERDUE_ETAG_SUFFIX.length());
+            }
+            try {
+                return Long.parseLong(version);
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw new IllegalArgumentException("Invalid If-Match header '" + ifMatch + "', expected a chore ETag");
+    }
+
     /**
      * Converts a Chore entity to a ChoreDTO for API responses.
      * 
@@ -273,6 +836,8 @@ public class ChoreController {
                 assignedUsername,
                 chore.getCreatedDate(),
                 chore.getLastCompletedDate(),
-                chore.getNextDueDate());
+                chore.getNextDueDate(),
+                ChoreStatePublisher.computeStatus(chore.getLastCompletedDate(), chore.getNextDueDate(),
+                        LocalDateTime.now()));
     }
 }
@@ -1,8 +1,10 @@
 package de.caransgar.chorehub.controller;
 
+import de.caransgar.chorehub.services.UserCleanupScheduler;
 import de.caransgar.chorehub.services.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -13,9 +15,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService;
+    private final UserCleanupScheduler cleanupScheduler;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserCleanupScheduler cleanupScheduler) {
         this.userService = userService;
+        this.cleanupScheduler = cleanupScheduler;
     }
 
     @DeleteMapping("/{id}")
@@ -27,10 +31,24 @@ public class UserController {
     @PostMapping("/cleanup-soft-deleted")
     public ResponseEntity<CleanupDeletedUsersResponse> cleanupDeletedUsers() {
         UserService.CleanupDeletedUsersResult result = userService.cleanupDeletedUsers();
-        return ResponseEntity.ok(new CleanupDeletedUsersResponse(
+        return ResponseEntity.ok(toResponse(result));
+    }
+
+    /**
+     * Result of the last scheduled cleanup, or 204 if it has not run yet.
+     */
+    @GetMapping("/cleanup-soft-deleted")
+    public ResponseEntity<CleanupDeletedUsersResponse> lastScheduledCleanup() {
+        return cleanupScheduler.getLastResult()
+                .map(result -> ResponseEntity.ok(toResponse(result)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    private static CleanupDeletedUsersResponse toResponse(UserService.CleanupDeletedUsersResult result) {
+        return new CleanupDeletedUsersResponse(
                 result.deletedUsersFound(),
                 result.choresUnassigned(),
-                result.usersDeleted()));
+                result.usersDeleted());
     }
 
     public record CleanupDeletedUsersResponse(int deletedUsersFound, int choresUnassigned, int usersDeleted) {}
@@ -0,0 +1,34 @@
+package de.caransgar.chorehub.dto;
+
+import java.util.List;
+
+public class BulkDoneRequest {
+    private List<Long> choreIds;
+    private String notes;
+
+    // Constructors
+    public BulkDoneRequest() {
+    }
+
+    public BulkDoneRequest(List<Long> choreIds, String notes) {
+        this.choreIds = choreIds;
+        this.notes = notes;
+    }
+
+    // Getters and Setters
+    public List<Long> getChoreIds() {
+        return choreIds;
+    }
+
+    public void setChoreIds(List<Long> choreIds) {
+        this.choreIds = choreIds;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
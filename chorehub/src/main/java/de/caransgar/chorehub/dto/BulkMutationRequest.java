@@ -0,0 +1,90 @@
+package de.caransgar.chorehub.dto;
+
+import de.caransgar.chorehub.entity.RecurrenceType;
+
+import java.util.List;
+
+/**
+ * One change applied to many chores at once.
+ * Chores are selected either by {@code choreIds} or by {@code currentAssignee}.
+ */
+public class BulkMutationRequest {
+
+    /**
+     * Supported bulk changes.
+     */
+    public enum Action {
+        /** Assign the chores to {@code assignedUsername}, or unassign them if it is empty. */
+        REASSIGN,
+        /** Change recurrence type and pattern; due dates are recomputed where they changed. */
+        CHANGE_RECURRENCE,
+        /** Delete the chores and their history. */
+        DELETE
+    }
+
+    private Action action;
+    private List<Long> choreIds;
+    private String currentAssignee;
+    private String assignedUsername;
+    private RecurrenceType recurrenceType;
+    private String recurrencePattern;
+
+    // Constructors
+    public BulkMutationRequest() {
+    }
+
+    public BulkMutationRequest(Action action, List<Long> choreIds, String currentAssignee) {
+        this.action = action;
+        this.choreIds = choreIds;
+        this.currentAssignee = currentAssignee;
+    }
+
+    // Getters and Setters
+    public Action getAction() {
+        return action;
+    }
+
+    public void setAction(Action action) {
+        this.action = action;
+    }
+
+    public List<Long> getChoreIds() {
+        return choreIds;
+    }
+
+    public void setChoreIds(List<Long> choreIds) {
+        this.choreIds = choreIds;
+    }
+
+    public String getCurrentAssignee() {
+        return currentAssignee;
+    }
+
+    public void setCurrentAssignee(String currentAssignee) {
+        this.currentAssignee = currentAssignee;
+    }
+
+    public String getAssignedUsername() {
+        return assignedUsername;
+    }
+
+    public void setAssignedUsername(String assignedUsername) {
+        this.assignedUsername = assignedUsername;
+    }
+
+    public RecurrenceType getRecurrenceType() {
+        return recurrenceType;
+    }
+
+    public void setRecurrenceType(RecurrenceType recurrenceType) {
+        this.recurrenceType = recurrenceType;
+    }
+
+    public String getRecurrencePattern() {
+        return recurrencePattern;
+    }
+
+    public void setRecurrencePattern(String recurrencePattern) {
+        this.recurrencePattern = recurrencePattern;
+    }
+}
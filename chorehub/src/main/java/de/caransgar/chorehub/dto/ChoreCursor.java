@@ -0,0 +1,35 @@
+package de.caransgar.chorehub.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the chore list: the sort order it belongs to and the last returned chore's
+ * due date (null for chores without one) and id. Exposed to clients as an opaque URL-safe token.
+ */
+public record ChoreCursor(ChoreSort sort, LocalDateTime nextDueDate, Long id) {
+
+    public String encode() {
+        String raw = sort + "|" + (nextDueDate != null ? nextDueDate : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static ChoreCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid chore cursor: " + token);
+            }
+            LocalDateTime nextDueDate = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new ChoreCursor(ChoreSort.parse(parts[0]), nextDueDate, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid chore cursor: " + token);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package de.caransgar.chorehub.dto;
 
+import de.caransgar.chorehub.entity.ChoreStatus;
 import de.caransgar.chorehub.entity.RecurrenceType;
 import java.time.LocalDateTime;
 
@@ -17,14 +18,25 @@ public class ChoreDTO {
     private LocalDateTime createdDate;
     private LocalDateTime lastCompletedDate;
     private LocalDateTime nextDueDate;
+    private ChoreStatus status;
 
     // Constructors
     public ChoreDTO() {
     }
 
+    /**
+     * Constructor for JPQL projections; the status is computed afterwards.
+     */
     public ChoreDTO(Long id, String name, String description, RecurrenceType recurrenceType,
             String recurrencePattern, String assignedUsername, LocalDateTime createdDate,
             LocalDateTime lastCompletedDate, LocalDateTime nextDueDate) {
+        this(id, name, description, recurrenceType, recurrencePattern, assignedUsername, createdDate,
+                lastCompletedDate, nextDueDate, null);
+    }
+
+    public ChoreDTO(Long id, String name, String description, RecurrenceType recurrenceType,
+            String recurrencePattern, String assignedUsername, LocalDateTime createdDate,
+            LocalDateTime lastCompletedDate, LocalDateTime nextDueDate, ChoreStatus status) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -34,6 +46,7 @@ public class ChoreDTO {
         this.createdDate = createdDate;
         this.lastCompletedDate = lastCompletedDate;
         this.nextDueDate = nextDueDate;
+        this.status = status;
     }
 
     // Getters and Setters
@@ -108,4 +121,12 @@ public class ChoreDTO {
     public void setNextDueDate(LocalDateTime nextDueDate) {
         this.nextDueDate = nextDueDate;
     }
+
+    public ChoreStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ChoreStatus status) {
+        this.status = status;
+    }
 }
@@ -0,0 +1,58 @@
+package de.caransgar.chorehub.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a single completion of a chore.
+ * Built directly by the repository query, so the chore itself is never loaded.
+ */
+public class ChoreHistoryDTO {
+    private Long id;
+    private Long choreId;
+    private LocalDateTime completedDate;
+    private String notes;
+
+    // Constructors
+    public ChoreHistoryDTO() {
+    }
+
+    public ChoreHistoryDTO(Long id, Long choreId, LocalDateTime completedDate, String notes) {
+        this.id = id;
+        this.choreId = choreId;
+        this.completedDate = completedDate;
+        this.notes = notes;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getChoreId() {
+        return choreId;
+    }
+
+    public void setChoreId(Long choreId) {
+        this.choreId = choreId;
+    }
+
+    public LocalDateTime getCompletedDate() {
+        return completedDate;
+    }
+
+    public void setCompletedDate(LocalDateTime completedDate) {
+        this.completedDate = completedDate;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
@@ -0,0 +1,57 @@
+package de.caransgar.chorehub.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a single forecast occurrence of a chore.
+ */
+public class ChoreOccurrenceDTO {
+    private Long choreId;
+    private String choreName;
+    private String assignedUsername;
+    private LocalDateTime dueDate;
+
+    // Constructors
+    public ChoreOccurrenceDTO() {
+    }
+
+    public ChoreOccurrenceDTO(Long choreId, String choreName, String assignedUsername, LocalDateTime dueDate) {
+        this.choreId = choreId;
+        this.choreName = choreName;
+        this.assignedUsername = assignedUsername;
+        this.dueDate = dueDate;
+    }
+
+    // Getters and Setters
+    public Long getChoreId() {
+        return choreId;
+    }
+
+    public void setChoreId(Long choreId) {
+        this.choreId = choreId;
+    }
+
+    public String getChoreName() {
+        return choreName;
+    }
+
+    public void setChoreName(String choreName) {
+        this.choreName = choreName;
+    }
+
+    public String getAssignedUsername() {
+        return assignedUsername;
+    }
+
+    public void setAssignedUsername(String assignedUsername) {
+        this.assignedUsername = assignedUsername;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+}
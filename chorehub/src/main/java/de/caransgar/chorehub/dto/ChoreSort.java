@@ -0,0 +1,57 @@
+package de.caransgar.chorehub.dto;
+
+/**
+ * Sort order of the chore list, written as {@code property} or {@code property,desc}.
+ * Chores without a due date are always listed last when sorting by due date.
+ */
+public record ChoreSort(Property property, boolean descending) {
+
+    public static final ChoreSort DEFAULT = new ChoreSort(Property.ID, false);
+
+    public enum Property {
+        ID("id"),
+        NEXT_DUE_DATE("nextDueDate");
+
+        private final String name;
+
+        Property(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value is not a supported sort order
+     */
+    public static ChoreSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        String[] parts = value.split(",", -1);
+        if (parts.length > 2) {
+            throw new IllegalArgumentException("Invalid sort: " + value);
+        }
+        boolean descending = false;
+        if (parts.length == 2) {
+            if (parts[1].trim().equalsIgnoreCase("desc")) {
+                descending = true;
+            } else if (!parts[1].trim().equalsIgnoreCase("asc")) {
+                throw new IllegalArgumentException("Invalid sort direction: " + parts[1]);
+            }
+        }
+        for (Property property : Property.values()) {
+            if (property.name.equals(parts[0].trim())) {
+                return new ChoreSort(property, descending);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort property: " + parts[0]);
+    }
+
+    @Override
+    public String toString() {
+        return property.name + (descending ? ",desc" : ",asc");
+    }
+}
@@ -1,20 +1,19 @@
 package de.caransgar.chorehub.entity;
 
+import de.caransgar.chorehub.recurrence.RecurrenceRuleRegistry;
 import jakarta.persistence.*;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.scheduling.support.CronExpression;
-
 @Entity
 @Table(name = "chores")
 public class Chore {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chores_seq")
+    @SequenceGenerator(name = "chores_seq", sequenceName = "chores_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -40,6 +39,12 @@ public class Chore {
 
     private LocalDateTime nextDueDate;
 
+    /**
+     * Optimistic lock; incremented on every update, including bulk updates.
+     */
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "chore", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ChoreHistory> history = new ArrayList<>();
 
@@ -62,46 +67,65 @@ public class Chore {
      * Recalculates the next due date based on the recurrence type and pattern.
      * For FIXED_SCHEDULE, it uses the current time as reference.
      * For AFTER_COMPLETION, it uses the last completed date (or created date if never completed).
+     * Patterns are compiled once and shared through the {@link RecurrenceRuleRegistry}.
      */
     public void recalculateNextDueDate() {
-        if (this.recurrenceType == RecurrenceType.FIXED_SCHEDULE && this.recurrencePattern != null) {
-            var cron = CronExpression.parse(this.recurrencePattern);
-            this.nextDueDate = cron.next(LocalDateTime.now());
-        } else if (this.recurrenceType == RecurrenceType.AFTER_COMPLETION && this.recurrencePattern != null) {
-            Duration interval = Duration.parse(this.recurrencePattern);
-            LocalDateTime reference = (this.lastCompletedDate != null) ? this.lastCompletedDate : this.createdDate;
-            this.nextDueDate = reference.plus(interval);
+        this.nextDueDate = computeNextDueDate(this.recurrenceType, this.recurrencePattern, this.createdDate,
+                this.lastCompletedDate, LocalDateTime.now());
+    }
+
+    /**
+     * Computes a next due date from the scheduling fields alone, without an entity instance.
+     * Same rules as {@link #recalculateNextDueDate()}; used by bulk recomputation.
+     *
+     * @param recurrenceType    the recurrence type
+     * @param recurrencePattern the cron or duration pattern
+     * @param createdDate       the creation date
+     * @param lastCompletedDate the last completion, or null if never completed
+     * @param now               the reference time for FIXED_SCHEDULE
+     * @return the next due date, or null if the chore does not recur
+     */
+    public static LocalDateTime computeNextDueDate(RecurrenceType recurrenceType, String recurrencePattern,
+            LocalDateTime createdDate, LocalDateTime lastCompletedDate, LocalDateTime now) {
+        if (recurrenceType == RecurrenceType.FIXED_SCHEDULE && recurrencePattern != null) {
+            return RecurrenceRuleRegistry.cron(recurrencePattern).next(now);
+        } else if (recurrenceType == RecurrenceType.AFTER_COMPLETION && recurrencePattern != null) {
+            LocalDateTime reference = (lastCompletedDate != null) ? lastCompletedDate : createdDate;
+            return RecurrenceRuleRegistry.duration(recurrencePattern).next(reference);
         } else {
-            this.nextDueDate = null;
+            return null;
         }
     }
 
     /**
-     * Records a chore completion by adding it to the history, updating the last
-     * completed date,
+     * Records a chore completion by updating the last completed date
      * and recalculating the next due date.
+     * 
+     * The returned history entry has to be persisted by the caller. It is deliberately not
+     * added to {@link #getHistory()}, which would load the chore's entire history.
      *
      * @param notes Optional notes about the completion
+     * @return the new, unsaved history entry
      */
-    public void recordCompletion(String notes) {
+    public ChoreHistory recordCompletion(String notes) {
         LocalDateTime completionTime = LocalDateTime.now();
 
-        // Add to history
-        ChoreHistory historyEntry = new ChoreHistory(this, completionTime, notes);
-        this.history.add(historyEntry);
-
         // Update last completed date
         this.lastCompletedDate = completionTime;
 
         // Recalculate next due date
         this.recalculateNextDueDate();
+
+        return new ChoreHistory(this, completionTime, notes);
     }
 
     /**
      * Records a chore completion without notes
+     *
+     * @return the new, unsaved history entry
      */
-    public void recordCompletion() {
-        recordCompletion(null);
+    public ChoreHistory recordCompletion() {
+        return recordCompletion(null);
     }
 
     // Getters and Setters
@@ -177,6 +201,10 @@ public class Chore {
         this.nextDueDate = nextDueDate;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<ChoreHistory> getHistory() {
         return history;
     }
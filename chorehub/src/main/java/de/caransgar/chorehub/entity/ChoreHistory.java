@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 public class ChoreHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chore_history_seq")
+    @SequenceGenerator(name = "chore_history_seq", sequenceName = "chore_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
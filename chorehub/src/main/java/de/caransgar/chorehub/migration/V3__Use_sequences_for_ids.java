@@ -0,0 +1,66 @@
+package de.caransgar.chorehub.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Replaces AUTO_INCREMENT ids with sequences, so Hibernate can assign ids in pooled blocks
+ * and batch inserts.
+ *
+ * Written in Java because each sequence has to start above the existing ids.
+ * Sequences increment by the entities' allocation size; Hibernate's pooled optimizer treats
+ * each value as the upper end of a block, so they start one block above the current maximum.
+ * The id columns also default to the sequence, so rows inserted outside Hibernate get ids
+ * that never collide with Hibernate's blocks.
+ */
+@Component
+public class V3__Use_sequences_for_ids extends BaseJavaMigration {
+
+    /** Must match {@code allocationSize} of the entities' sequence generators. */
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final String[][] TABLES = {
+            { "users", "users_seq" },
+            { "chores", "chores_seq" },
+            { "chore_history", "chore_history_seq" },
+    };
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean h2 = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("h2");
+
+        try (Statement statement = connection.createStatement()) {
+            for (String[] table : TABLES) {
+                String tableName = table[0];
+                String sequenceName = table[1];
+                long start = maxId(statement, tableName) + ALLOCATION_SIZE;
+
+                statement.execute("CREATE SEQUENCE " + sequenceName + " START WITH " + start
+                        + " INCREMENT BY " + ALLOCATION_SIZE);
+                if (h2) {
+                    statement.execute("ALTER TABLE " + tableName + " ALTER COLUMN id DROP IDENTITY");
+                    statement.execute("ALTER TABLE " + tableName + " ALTER COLUMN id SET DEFAULT NEXT VALUE FOR "
+                            + sequenceName);
+                } else {
+                    statement.execute("ALTER TABLE " + tableName + " MODIFY id BIGINT NOT NULL DEFAULT (NEXT VALUE FOR "
+                            + sequenceName + ")");
+                }
+            }
+        }
+    }
+
+    private static long maxId(Statement statement, String tableName) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + tableName)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -32,6 +32,14 @@ public class ChoreMqttTopics {
         return String.format("%s/%s/%d/done/set", ROOT, CHORES, choreId);
     }
 
+    /**
+     * Command topic to mark many chores as done at once: chorehub/chores/done/set
+     * The payload is a JSON array of chore ids, or an object with "choreIds" and optional "notes".
+     */
+    public static String bulkDoneCommandTopic() {
+        return String.format("%s/%s/done/set", ROOT, CHORES);
+    }
+
     /**
      * Availability topic: chorehub/status
      */
@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 
 /**
  * Service for publishing chore status and attributes to MQTT.
@@ -69,6 +70,24 @@ public class ChoreStatePublisher {
         }
     }
 
+    /**
+     * Publish precomputed attributes of a chore.
+     * Used by deferred publishes that run after the chore's session has been closed.
+     * @param choreId the ID of the chore
+     * @param attributes the attributes to publish
+     */
+    public void publishAttributes(Long choreId, ChoreAttributes attributes) {
+        try {
+            mqttGateway.sendToMqtt(
+                    objectMapper.writeValueAsString(attributes),
+                    ChoreMqttTopics.attributesTopic(choreId));
+
+            LOG.debug("Published attributes for chore {}", choreId);
+        } catch (Exception e) {
+            LOG.error("Failed to publish attributes for chore {}", choreId, e);
+        }
+    }
+
     /**
      * Publish both status and attributes.
      * @param chore the Chore to publish
@@ -78,16 +97,45 @@ public class ChoreStatePublisher {
         publishAttributes(chore);
     }
 
+    /**
+     * Publish a precomputed status for a chore.
+     * Used by targeted publishes that already know the new status and don't hold the entity.
+     * @param choreId the ID of the chore
+     * @param status the status to publish
+     */
+    public void publishStatus(Long choreId, ChoreStatus status) {
+        try {
+            mqttGateway.sendToMqtt(
+                    status.getHaValue(),
+                    ChoreMqttTopics.statusTopic(choreId));
+
+            LOG.debug("Published status '{}' for chore {}", status.getHaValue(), choreId);
+        } catch (Exception e) {
+            LOG.error("Failed to publish status for chore {}", choreId, e);
+        }
+    }
+
     /**
      * Compute the ChoreStatus based on the chore's due date and last completion.
      * @param chore the Chore to evaluate
      * @return the computed ChoreStatus
      */
     private ChoreStatus computeStatus(Chore chore) {
-        if (chore.getLastCompletedDate() == null) {
+        return computeStatus(chore.getLastCompletedDate(), chore.getNextDueDate(), LocalDateTime.now());
+    }
+
+    /**
+     * Compute the ChoreStatus from a chore's last completion and next due date at a given instant.
+     * @param lastCompletedDate the last completion, or null if never completed
+     * @param nextDueDate the next due date, or null if there is none
+     * @param now the reference time
+     * @return the computed ChoreStatus
+     */
+    public static ChoreStatus computeStatus(LocalDateTime lastCompletedDate, LocalDateTime nextDueDate,
+            LocalDateTime now) {
+        if (lastCompletedDate == null) {
             // Never completed
-            java.time.LocalDateTime now = java.time.LocalDateTime.now();
-            if (chore.getNextDueDate() != null && chore.getNextDueDate().isBefore(now)) {
+            if (nextDueDate != null && nextDueDate.isBefore(now)) {
                 return ChoreStatus.OVERDUE;
             } else {
                 return ChoreStatus.DUE;
@@ -95,15 +143,14 @@ public class ChoreStatePublisher {
         }
 
         // Recently completed or not yet due
-        java.time.LocalDateTime now = java.time.LocalDateTime.now();
-        if (chore.getNextDueDate() == null) {
+        if (nextDueDate == null) {
             // Completed, no next due for one-time chores
             return ChoreStatus.DONE;
         }
 
-        if (chore.getNextDueDate().isBefore(now)) {
+        if (nextDueDate.isBefore(now)) {
             return ChoreStatus.OVERDUE;
-        } else if (chore.getNextDueDate().isAfter(now)) {
+        } else if (nextDueDate.isAfter(now)) {
             // Due in the future
             return ChoreStatus.DONE;
         }
@@ -111,4 +158,22 @@ public class ChoreStatePublisher {
         // Today or just became due
         return ChoreStatus.DUE;
     }
+
+    /**
+     * Compute the boundary after which {@link #computeStatus(LocalDateTime, LocalDateTime, LocalDateTime)}
+     * yields a different result, assuming the chore itself is not modified.
+     * The status is stable up to and including the returned instant and changes right after it.
+     * @param lastCompletedDate the last completion, or null if never completed
+     * @param nextDueDate the next due date, or null if there is none
+     * @param now the reference time
+     * @return the next status boundary, or null if the status will not change on its own
+     */
+    public static LocalDateTime nextStatusChange(LocalDateTime lastCompletedDate, LocalDateTime nextDueDate,
+            LocalDateTime now) {
+        // Every status rule above flips exactly once, when the due date passes
+        if (nextDueDate == null || nextDueDate.isBefore(now)) {
+            return null;
+        }
+        return nextDueDate;
+    }
 }
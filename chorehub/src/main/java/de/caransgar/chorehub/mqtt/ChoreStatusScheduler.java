@@ -4,6 +4,8 @@ import de.caransgar.chorehub.entity.Chore;
 import de.caransgar.chorehub.services.ChoreService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,8 +13,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
 /**
- * Scheduled task for periodically publishing MQTT status for all chores.
- * Ensures MQTT state is synchronized even if status changes are missed.
+ * Publishes MQTT status for all chores at startup and hands them to the
+ * {@link ChoreTransitionScheduler}, which then publishes each status change when it happens.
+ * A low-frequency full resync remains as a safety net, e.g. after a broker lost its retained state.
  */
 @Component
 public class ChoreStatusScheduler {
@@ -21,17 +24,31 @@ public class ChoreStatusScheduler {
 
     private final ChoreService choreService;
     private final ChoreStatePublisher statePublisher;
+    private final ChoreTransitionScheduler transitionScheduler;
 
-    public ChoreStatusScheduler(ChoreService choreService, ChoreStatePublisher statePublisher) {
+    public ChoreStatusScheduler(ChoreService choreService, ChoreStatePublisher statePublisher,
+            ChoreTransitionScheduler transitionScheduler) {
         this.choreService = choreService;
         this.statePublisher = statePublisher;
+        this.transitionScheduler = transitionScheduler;
+    }
+
+    /**
+     * Seed MQTT state and the transition schedule once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        refreshAllChoreStates();
     }
 
     /**
      * Periodically refresh MQTT status for all chores.
-     * Runs every 5 minutes to ensure state stays in sync.
+     * Status changes are published by the transition scheduler as they happen,
+     * so this only needs to run rarely (default every 6 hours).
      */
-    @Scheduled(fixedRate = 300000)  // 5 minutes
+    @Scheduled(fixedRateString = "${chorehub.mqtt.state-resync-interval:PT6H}",
+            initialDelayString = "${chorehub.mqtt.state-resync-interval:PT6H}")
     @Transactional(readOnly = true)
     public void refreshAllChoreStates() {
         try {
@@ -46,12 +63,13 @@ public class ChoreStatusScheduler {
             for (Chore chore : allChores) {
                 try {
                     statePublisher.publishStatusAndAttributes(chore);
+                    transitionScheduler.track(chore);
                 } catch (Exception e) {
                     LOG.warn("Failed to refresh state for chore {}", chore.getId(), e);
                 }
             }
 
-            LOG.debug("MQTT status refresh completed");
+            LOG.debug("MQTT status refresh completed, {} transitions pending", transitionScheduler.pendingCount());
         } catch (Exception e) {
             LOG.error("Error in scheduled chore status refresh", e);
         }
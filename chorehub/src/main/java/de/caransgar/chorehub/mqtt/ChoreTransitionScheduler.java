@@ -0,0 +1,238 @@
+package de.caransgar.chorehub.mqtt;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Event-driven scheduler for chore status transitions.
+ *
+ * Keeps one pending entry per chore in a delay queue, ordered by the instant at which the
+ * chore's computed status changes next (see {@link ChoreStatePublisher#nextStatusChange}).
+ * A single dispatcher thread publishes the new status exactly when that instant passes,
+ * so no periodic sweep over all chores is needed to notice DONE/DUE/OVERDUE changes.
+ *
+ * Entries are replaced whenever a chore is created, completed, saved or deleted, and left as they
+ * are when the chore's next boundary did not change, e.g. on the periodic resync. Replaced entries
+ * are removed from the queue; one that the dispatcher already took is skipped. When called within a
+ * transaction, entries change after it commits and not at all if it rolls back, so the queue
+ * never holds a state that is not in the database.
+ */
+@Component
+public class ChoreTransitionScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChoreTransitionScheduler.class);
+
+    /**
+     * Fire slightly after the boundary so the status computation already sees the new state.
+     */
+    private static final long BOUNDARY_OFFSET_MILLIS = 1;
+
+    private final ChoreStatePublisher statePublisher;
+    private final DelayQueue<PendingTransition> queue = new DelayQueue<>();
+    private final Map<Long, PendingTransition> pending = new ConcurrentHashMap<>();
+    private final AtomicLong transitions = new AtomicLong();
+
+    private volatile Thread dispatcher;
+
+    public ChoreTransitionScheduler(ChoreStatePublisher statePublisher) {
+        this.statePublisher = statePublisher;
+    }
+
+    /**
+     * Start the dispatcher thread.
+     */
+    @PostConstruct
+    public void start() {
+        Thread thread = new Thread(this::dispatchLoop, "chore-transitions");
+        thread.setDaemon(true);
+        dispatcher = thread;
+        thread.start();
+    }
+
+    /**
+     * Stop the dispatcher thread. Pending transitions are discarded.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = dispatcher;
+        dispatcher = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * (Re)schedule the next status transition of a chore from its current state.
+     * Any previously scheduled transition for the chore is superseded.
+     * @param chore the Chore whose state just changed
+     */
+    public void track(Chore chore) {
+        if (chore == null || chore.getId() == null) {
+            return;
+        }
+        // Capture the state now, the entity may change before the transaction commits
+        Long choreId = chore.getId();
+        LocalDateTime lastCompletedDate = chore.getLastCompletedDate();
+        LocalDateTime nextDueDate = chore.getNextDueDate();
+        afterCommit(() -> schedule(choreId, lastCompletedDate, nextDueDate, LocalDateTime.now(), false));
+    }
+
+    /**
+     * Forget the pending transition of a chore, e.g. after it was deleted.
+     * @param choreId the ID of the chore
+     */
+    public void untrack(Long choreId) {
+        if (choreId != null) {
+            afterCommit(() -> dequeue(pending.remove(choreId)));
+        }
+    }
+
+    /**
+     * @return the number of chores with a pending status transition
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return the number of status transitions fired so far; grows whenever some chore's computed
+     *         status changed without the chore itself being modified
+     */
+    public long transitionCount() {
+        return transitions.get();
+    }
+
+    /**
+     * @return the earliest pending status boundary, or null if no transition is pending
+     */
+    public LocalDateTime nextTransition() {
+        PendingTransition head = queue.peek();
+        if (head == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(head.fireAtMillis() - BOUNDARY_OFFSET_MILLIS),
+                ZoneId.systemDefault());
+    }
+
+    private void schedule(Long choreId, LocalDateTime lastCompletedDate, LocalDateTime nextDueDate,
+            LocalDateTime now, boolean onlyIfAbsent) {
+        LocalDateTime boundary = ChoreStatePublisher.nextStatusChange(lastCompletedDate, nextDueDate, now);
+        if (boundary == null) {
+            if (!onlyIfAbsent) {
+                dequeue(pending.remove(choreId));
+            }
+            return;
+        }
+
+        long fireAtMillis = boundary.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                + BOUNDARY_OFFSET_MILLIS;
+        PendingTransition transition = new PendingTransition(choreId, lastCompletedDate, nextDueDate, fireAtMillis);
+
+        if (onlyIfAbsent) {
+            if (pending.putIfAbsent(choreId, transition) != null) {
+                return;
+            }
+        } else {
+            PendingTransition previous = pending.put(choreId, transition);
+            if (transition.equals(previous)) {
+                // Same boundary from the same state, the queued entry stays valid
+                return;
+            }
+            dequeue(previous);
+        }
+        queue.offer(transition);
+        LOG.debug("Scheduled status transition for chore {} at {}", choreId, boundary);
+    }
+
+    /**
+     * Drop a superseded entry from the queue, so it neither surfaces nor shows as the next transition.
+     */
+    private void dequeue(PendingTransition superseded) {
+        if (superseded != null) {
+            queue.remove(superseded);
+        }
+    }
+
+    /**
+     * Run a change once the current transaction commits, or right away outside of a transaction.
+     */
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private void dispatchLoop() {
+        while (dispatcher == Thread.currentThread()) {
+            try {
+                PendingTransition transition = queue.take();
+                // Skip entries that were superseded or untracked in the meantime
+                if (pending.remove(transition.choreId(), transition)) {
+                    fire(transition);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOG.error("Error while dispatching chore status transition", e);
+            }
+        }
+    }
+
+    private void fire(PendingTransition transition) {
+        LocalDateTime now = LocalDateTime.now();
+        ChoreStatus status = ChoreStatePublisher.computeStatus(
+                transition.lastCompletedDate(), transition.nextDueDate(), now);
+        // Count before publishing, a failing publish must not hide the transition from the REST ETags
+        transitions.incrementAndGet();
+        statePublisher.publishStatus(transition.choreId(), status);
+        LOG.debug("Chore {} transitioned to '{}'", transition.choreId(), status.getHaValue());
+
+        // Re-arm in case the rules define a further boundary, unless the chore was re-tracked meanwhile
+        schedule(transition.choreId(), transition.lastCompletedDate(), transition.nextDueDate(), now, true);
+    }
+
+    /**
+     * Queue entry holding just enough of a chore's state to compute its status at fire time.
+     */
+    private record PendingTransition(Long choreId, LocalDateTime lastCompletedDate, LocalDateTime nextDueDate,
+            long fireAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof PendingTransition that) {
+                return Long.compare(fireAtMillis, that.fireAtMillis);
+            }
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package de.caransgar.chorehub.mqtt;
+
+import de.caransgar.chorehub.config.MqttConfigProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Drops repeated done commands for the same chore within a short window
+ * ({@code chorehub.mqtt.done-suppression-window}), before they reach the database.
+ *
+ * QoS 1 lets the broker redeliver a command after a reconnect, and buttons in Home Assistant
+ * get double-tapped; both would otherwise record a second completion. The last accepted
+ * completion per chore is kept in a concurrent map updated with compare-and-set only, and
+ * expired entries are swept out every few hundred commands.
+ */
+@Component
+public class CompletionDeduplicator {
+
+    /** Commands between two sweeps of expired entries. */
+    private static final int SWEEP_INTERVAL = 256;
+
+    private final MqttConfigProperties config;
+    private final LongSupplier nanoClock;
+    /** Chore ID to the time (System.nanoTime) of its last accepted completion. */
+    private final ConcurrentMap<Long, Long> lastAccepted = new ConcurrentHashMap<>();
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    @Autowired
+    public CompletionDeduplicator(MqttConfigProperties config) {
+        this(config, System::nanoTime);
+    }
+
+    CompletionDeduplicator(MqttConfigProperties config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Decide whether a done command for a chore should be processed.
+     * @param choreId the chore to complete
+     * @return true if the command should be processed, false if it repeats a recent one
+     */
+    public boolean tryAccept(Long choreId) {
+        Duration window = config.getDoneSuppressionWindow();
+        if (window == null || window.isZero() || window.isNegative()) {
+            return true;
+        }
+        long windowNanos = window.toNanos();
+        long now = nanoClock.getAsLong();
+        if (commands.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            sweep(now, windowNanos);
+        }
+
+        Long previous = lastAccepted.putIfAbsent(choreId, now);
+        while (previous != null) {
+            if (now - previous < windowNanos) {
+                suppressed.incrementAndGet();
+                return false;
+            }
+            if (lastAccepted.replace(choreId, previous, now)) {
+                return true;
+            }
+            previous = lastAccepted.putIfAbsent(choreId, now);
+        }
+        return true;
+    }
+
+    /**
+     * Forget an accepted command that could not be processed, so that a redelivery is not dropped.
+     * @param choreId the chore whose completion failed
+     */
+    public void release(Long choreId) {
+        lastAccepted.remove(choreId);
+    }
+
+    /**
+     * @return the number of done commands dropped so far
+     */
+    public long suppressedCount() {
+        return suppressed.get();
+    }
+
+    /**
+     * @return the number of chores currently remembered
+     */
+    public int trackedCount() {
+        return lastAccepted.size();
+    }
+
+    private void sweep(long now, long windowNanos) {
+        // Removes an entry only if it still holds the expired value
+        lastAccepted.entrySet().removeIf(entry -> now - entry.getValue() >= windowNanos);
+    }
+}
@@ -0,0 +1,165 @@
+package de.caransgar.chorehub.mqtt;
+
+import de.caransgar.chorehub.config.MqttConfigProperties;
+import de.caransgar.chorehub.dto.ChoreAttributes;
+import de.caransgar.chorehub.entity.Chore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Publishes MQTT discovery, removals and state for many chores at once, in paced bursts on a
+ * background thread, so bulk operations neither block the request nor flood the broker and
+ * Home Assistant.
+ *
+ * Discovery for all chores is sent before any state, so Home Assistant knows every entity by the
+ * time its state arrives. When called within a transaction, publishing starts after it commits
+ * and is skipped if it rolls back. Attributes are captured when called, while lazy associations
+ * of the chores can still be loaded; the status is computed when it is published.
+ */
+@Component
+public class MqttBatchPublisher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MqttBatchPublisher.class);
+
+    private final ChoreDiscoveryService discoveryService;
+    private final ChoreStatePublisher statePublisher;
+    private final MqttConfigProperties config;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mqtt-batch-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MqttBatchPublisher(ChoreDiscoveryService discoveryService, ChoreStatePublisher statePublisher,
+            MqttConfigProperties config) {
+        this.discoveryService = discoveryService;
+        this.statePublisher = statePublisher;
+        this.config = config;
+    }
+
+    /**
+     * Publish discovery, status and attributes of newly created chores.
+     * @param chores the created chores, within the session that loaded them
+     * @return completes when everything was published
+     */
+    public CompletableFuture<Void> publishCreated(List<Chore> chores) {
+        if (chores.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<Chore> batch = List.copyOf(chores);
+        List<ChoreState> states = batch.stream().map(ChoreState::of).toList();
+        return submitAfterCommit(() -> {
+            paced(batch, discoveryService::publishDiscoveryForChore);
+            paced(states, this::publishState);
+            LOG.info("Published discovery and state for {} chores", batch.size());
+        });
+    }
+
+    /**
+     * Publish status and attributes of changed chores.
+     * @param chores the changed chores, within the session that loaded them
+     * @return completes when everything was published
+     */
+    public CompletableFuture<Void> publishState(List<Chore> chores) {
+        if (chores.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<ChoreState> states = chores.stream().map(ChoreState::of).toList();
+        return submitAfterCommit(() -> {
+            paced(states, this::publishState);
+            LOG.info("Published state for {} chores", states.size());
+        });
+    }
+
+    /**
+     * Remove the MQTT discovery of deleted chores.
+     * @param choreIds the IDs of the deleted chores
+     * @return completes when everything was published
+     */
+    public CompletableFuture<Void> publishRemoved(List<Long> choreIds) {
+        if (choreIds.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<Long> batch = List.copyOf(choreIds);
+        return submitAfterCommit(() -> {
+            paced(batch, discoveryService::removeDiscoveryForChore);
+            LOG.info("Removed discovery for {} chores", batch.size());
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Void> submitAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return CompletableFuture.runAsync(task, executor);
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    result.cancel(false);
+                    return;
+                }
+                CompletableFuture.runAsync(task, executor).whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(null);
+                    }
+                });
+            }
+        });
+        return result;
+    }
+
+    private void publishState(ChoreState state) {
+        statePublisher.publishStatus(state.choreId(), ChoreStatePublisher.computeStatus(
+                state.lastCompletedDate(), state.nextDueDate(), LocalDateTime.now()));
+        statePublisher.publishAttributes(state.choreId(), state.attributes());
+    }
+
+    private <T> void paced(List<T> items, Consumer<T> publish) {
+        int burst = Math.max(1, config.getPublishBatchSize());
+        Duration pause = config.getPublishBatchPause();
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0 && i % burst == 0 && pause != null && !pause.isZero()) {
+                try {
+                    Thread.sleep(pause.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.warn("Batch publish interrupted after {} of {} chores", i, items.size());
+                    return;
+                }
+            }
+            publish.accept(items.get(i));
+        }
+    }
+
+    /**
+     * What is published for a chore, captured before its session is closed.
+     */
+    private record ChoreState(Long choreId, LocalDateTime lastCompletedDate, LocalDateTime nextDueDate,
+            ChoreAttributes attributes) {
+
+        static ChoreState of(Chore chore) {
+            return new ChoreState(chore.getId(), chore.getLastCompletedDate(), chore.getNextDueDate(),
+                    ChoreAttributesMapper.toChoreAttributes(chore));
+        }
+    }
+}
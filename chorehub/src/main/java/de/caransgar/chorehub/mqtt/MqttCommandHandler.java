@@ -1,5 +1,8 @@
 package de.caransgar.chorehub.mqtt;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caransgar.chorehub.services.ChoreService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +11,9 @@ import org.springframework.integration.mqtt.support.MqttHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Service for handling inbound MQTT commands.
  * Processes commands like marking chores as done.
@@ -17,18 +23,22 @@ public class MqttCommandHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(MqttCommandHandler.class);
     private static final String STARTUP_SELF_TEST_PAYLOAD_PREFIX = "__chorehub_startup_selftest__:";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
 
     private final ChoreService choreService;
     private final MqttInboundSelfTestState selfTestState;
+    private final CompletionDeduplicator deduplicator;
 
-    public MqttCommandHandler(ChoreService choreService, MqttInboundSelfTestState selfTestState) {
+    public MqttCommandHandler(ChoreService choreService, MqttInboundSelfTestState selfTestState,
+            CompletionDeduplicator deduplicator) {
         this.choreService = choreService;
         this.selfTestState = selfTestState;
+        this.deduplicator = deduplicator;
     }
 
     /**
      * Handle inbound MQTT messages from command topics.
-     * Expects topics like: chorehub/chores/{choreId}/done/set
+     * Expects topics like: chorehub/chores/{choreId}/done/set or chorehub/chores/done/set
      * @param message the MQTT message
      */
     @ServiceActivator(inputChannel = "mqttInboundChannel")
@@ -45,6 +55,11 @@ public class MqttCommandHandler {
                 return;
             }
 
+            if (topic.equals(ChoreMqttTopics.bulkDoneCommandTopic())) {
+                handleMarkChoresDone(payload);
+                return;
+            }
+
             // Parse topic: chorehub/chores/{choreId}/done/set
             String[] parts = topic.split("/");
             if (parts.length != 5
@@ -97,10 +112,71 @@ public class MqttCommandHandler {
      * @param choreId the ID of the chore to mark as done
      */
     private void handleMarkChoreDone(Long choreId) {
-        choreService.markChoreAsDone(choreId)
-                .ifPresentOrElse(
-                        chore -> LOG.info("Marked chore {} as done via MQTT", choreId),
-                        () -> LOG.warn("Chore {} not found", choreId)
-                );
+        if (!deduplicator.tryAccept(choreId)) {
+            LOG.info("Dropped repeated done command for chore {}", choreId);
+            return;
+        }
+        try {
+            choreService.markChoreAsDone(choreId)
+                    .ifPresentOrElse(
+                            chore -> LOG.info("Marked chore {} as done via MQTT", choreId),
+                            () -> LOG.warn("Chore {} not found", choreId)
+                    );
+        } catch (RuntimeException e) {
+            deduplicator.release(choreId);
+            throw e;
+        }
+    }
+
+    /**
+     * Mark many chores as done in one transaction.
+     * @param payload a JSON array of chore ids, or an object with "choreIds" and optional "notes"
+     */
+    private void handleMarkChoresDone(String payload) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            LOG.warn("Ignoring bulk done command with invalid JSON payload: {}", e.getOriginalMessage());
+            return;
+        }
+        JsonNode idsNode = root != null && root.isObject() ? root.get("choreIds") : root;
+        if (idsNode == null || !idsNode.isArray()) {
+            LOG.warn("Ignoring bulk done command without an array of chore ids");
+            return;
+        }
+        List<Long> ids = new ArrayList<>(idsNode.size());
+        for (JsonNode idNode : idsNode) {
+            if (!idNode.isIntegralNumber() || !idNode.canConvertToLong()) {
+                LOG.warn("Ignoring bulk done command with invalid chore id '{}'", idNode);
+                return;
+            }
+            ids.add(idNode.asLong());
+        }
+        JsonNode notesNode = root.isObject() ? root.get("notes") : null;
+        String notes = notesNode != null && notesNode.isTextual() ? notesNode.asText() : null;
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        List<Long> accepted = distinctIds.stream().filter(deduplicator::tryAccept).toList();
+        if (accepted.size() < distinctIds.size()) {
+            LOG.info("Dropped repeated done commands for {} chores", distinctIds.size() - accepted.size());
+            if (accepted.isEmpty()) {
+                return;
+            }
+        }
+
+        try {
+            ChoreService.BulkCompletionResult result = choreService.markChoresAsDone(accepted, notes);
+            LOG.info("Marked {} chores as done via MQTT", result.completed().size());
+            if (!result.notFound().isEmpty()) {
+                LOG.warn("Chores {} not found", result.notFound());
+            }
+        } catch (IllegalArgumentException e) {
+            accepted.forEach(deduplicator::release);
+            LOG.warn("Ignoring bulk done command: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            accepted.forEach(deduplicator::release);
+            throw e;
+        }
     }
 }
@@ -0,0 +1,47 @@
+package de.caransgar.chorehub.recurrence;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.LocalDateTime;
+
+/**
+ * Recurrence rule for FIXED_SCHEDULE chores, backed by Spring's {@link CronExpression}.
+ */
+class CronRecurrenceRule implements RecurrenceRule {
+
+    private final CronExpression expression;
+
+    CronRecurrenceRule(CronExpression expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Parse a 6-field cron pattern.
+     * Common daily, weekly and monthly shapes get the arithmetic {@link FastCronRecurrenceRule};
+     * everything else is evaluated by the general {@link CronExpression} search.
+     * @throws IllegalArgumentException if the pattern is not a valid cron expression
+     */
+    static RecurrenceRule compile(String pattern) {
+        // Always parse with Spring first so validation and error messages stay identical
+        CronExpression expression = CronExpression.parse(pattern);
+        return FastCronRecurrenceRule.tryCompile(pattern)
+                .<RecurrenceRule>map(rule -> rule)
+                .orElseGet(() -> new CronRecurrenceRule(expression));
+    }
+
+    @Override
+    public LocalDateTime next(LocalDateTime reference) {
+        return expression.next(reference);
+    }
+
+    @Override
+    public LocalDateTime firstAtOrAfter(LocalDateTime anchor, LocalDateTime target) {
+        // Cron occurrences do not depend on the anchor, so jump straight to the target
+        return anchor.isBefore(target) ? next(target.minusNanos(1)) : anchor;
+    }
+
+    @Override
+    public String toString() {
+        return "CronRecurrenceRule{" + expression + '}';
+    }
+}
@@ -0,0 +1,64 @@
+package de.caransgar.chorehub.recurrence;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Recurrence rule for AFTER_COMPLETION chores: a fixed ISO-8601 interval after the reference time.
+ */
+class DurationRecurrenceRule implements RecurrenceRule {
+
+    private final Duration interval;
+
+    DurationRecurrenceRule(Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Parse an ISO-8601 duration pattern such as "P7D".
+     * @throws java.time.format.DateTimeParseException if the pattern is not a valid duration
+     */
+    static RecurrenceRule compile(String pattern) {
+        return new DurationRecurrenceRule(Duration.parse(pattern));
+    }
+
+    @Override
+    public LocalDateTime next(LocalDateTime reference) {
+        return reference.plus(interval);
+    }
+
+    @Override
+    public LocalDateTime firstAtOrAfter(LocalDateTime anchor, LocalDateTime target) {
+        if (!anchor.isBefore(target) || !interval.isPositive()) {
+            return anchor;
+        }
+        // Whole intervals between anchor and target, so long gaps with short intervals stay O(1)
+        long steps = Duration.between(anchor, target).dividedBy(interval);
+        LocalDateTime candidate = anchor.plus(interval.multipliedBy(steps));
+        return candidate.isBefore(target) ? candidate.plus(interval) : candidate;
+    }
+
+    @Override
+    public Optional<String> toICalendarRule() {
+        long seconds = interval.getSeconds();
+        if (!interval.isPositive() || interval.getNano() != 0) {
+            return Optional.empty();
+        }
+        if (seconds % 86400 == 0) {
+            return Optional.of("FREQ=DAILY;INTERVAL=" + seconds / 86400);
+        }
+        if (seconds % 3600 == 0) {
+            return Optional.of("FREQ=HOURLY;INTERVAL=" + seconds / 3600);
+        }
+        if (seconds % 60 == 0) {
+            return Optional.of("FREQ=MINUTELY;INTERVAL=" + seconds / 60);
+        }
+        return Optional.of("FREQ=SECONDLY;INTERVAL=" + seconds);
+    }
+
+    @Override
+    public String toString() {
+        return "DurationRecurrenceRule{" + interval + '}';
+    }
+}
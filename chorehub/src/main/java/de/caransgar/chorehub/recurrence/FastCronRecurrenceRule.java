@@ -0,0 +1,229 @@
+package de.caransgar.chorehub.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Arithmetic evaluator for the cron shapes most FIXED_SCHEDULE chores use:
+ * <ul>
+ * <li>daily: {@code s m h * * *}</li>
+ * <li>weekly: {@code s m h * * MON,THU} (single days, lists and ranges)</li>
+ * <li>monthly: {@code s m h 15 * *}</li>
+ * </ul>
+ * with fixed seconds, minutes and hours. The next occurrence is computed directly instead of
+ * searching field by field like {@link org.springframework.scheduling.support.CronExpression}.
+ * Any other pattern is left to {@link CronRecurrenceRule}.
+ */
+class FastCronRecurrenceRule implements RecurrenceRule {
+
+    enum Shape {
+        DAILY,
+        WEEKLY,
+        MONTHLY
+    }
+
+    private static final Pattern NUMBER = Pattern.compile("\\d{1,2}");
+    private static final String[] DAY_NAMES = { "MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN" };
+
+    private final Shape shape;
+    private final LocalTime time;
+    /**
+     * Matching days indexed by ISO day-of-week (1 = Monday .. 7 = Sunday). Only used for WEEKLY.
+     */
+    private final boolean[] daysOfWeek;
+    /**
+     * Matching day of month. Only used for MONTHLY.
+     */
+    private final int dayOfMonth;
+
+    private FastCronRecurrenceRule(Shape shape, LocalTime time, boolean[] daysOfWeek, int dayOfMonth) {
+        this.shape = shape;
+        this.time = time;
+        this.daysOfWeek = daysOfWeek;
+        this.dayOfMonth = dayOfMonth;
+    }
+
+    /**
+     * Try to recognize a 6-field cron pattern as one of the supported shapes.
+     * The pattern is expected to be valid already.
+     * @param pattern the cron pattern
+     * @return the fast rule, or empty if the pattern needs the general evaluator
+     */
+    static Optional<FastCronRecurrenceRule> tryCompile(String pattern) {
+        String[] fields = pattern.trim().split("\\s+");
+        if (fields.length != 6) {
+            return Optional.empty();
+        }
+
+        Integer second = parseNumber(fields[0], 0, 59);
+        Integer minute = parseNumber(fields[1], 0, 59);
+        Integer hour = parseNumber(fields[2], 0, 23);
+        if (second == null || minute == null || hour == null || !"*".equals(fields[4])) {
+            return Optional.empty();
+        }
+        LocalTime time = LocalTime.of(hour, minute, second);
+
+        String dayOfMonthField = fields[3];
+        String dayOfWeekField = fields[5];
+
+        if (isWildcard(dayOfMonthField) && isWildcard(dayOfWeekField)) {
+            return Optional.of(new FastCronRecurrenceRule(Shape.DAILY, time, null, 0));
+        }
+
+        if (isWildcard(dayOfMonthField)) {
+            boolean[] days = parseDaysOfWeek(dayOfWeekField);
+            if (days == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new FastCronRecurrenceRule(Shape.WEEKLY, time, days, 0));
+        }
+
+        if (isWildcard(dayOfWeekField)) {
+            Integer day = parseNumber(dayOfMonthField, 1, 31);
+            if (day == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new FastCronRecurrenceRule(Shape.MONTHLY, time, null, day));
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public LocalDateTime next(LocalDateTime reference) {
+        LocalDate date = reference.toLocalDate();
+        switch (shape) {
+            case DAILY: {
+                LocalDateTime candidate = date.atTime(time);
+                return candidate.isAfter(reference) ? candidate : candidate.plusDays(1);
+            }
+            case WEEKLY: {
+                // Today may already be past the time, so the same weekday a week later is the last candidate
+                for (int offset = 0; offset <= 7; offset++) {
+                    LocalDate day = date.plusDays(offset);
+                    if (daysOfWeek[day.getDayOfWeek().getValue()]) {
+                        LocalDateTime candidate = day.atTime(time);
+                        if (candidate.isAfter(reference)) {
+                            return candidate;
+                        }
+                    }
+                }
+                return null;
+            }
+            case MONTHLY: {
+                // Months shorter than the day of month are skipped, as cron does
+                YearMonth month = YearMonth.from(date);
+                for (int offset = 0; offset <= 12; offset++) {
+                    YearMonth candidateMonth = month.plusMonths(offset);
+                    if (dayOfMonth <= candidateMonth.lengthOfMonth()) {
+                        LocalDateTime candidate = candidateMonth.atDay(dayOfMonth).atTime(time);
+                        if (candidate.isAfter(reference)) {
+                            return candidate;
+                        }
+                    }
+                }
+                return null;
+            }
+            default:
+                return null;
+        }
+    }
+
+    Shape getShape() {
+        return shape;
+    }
+
+    LocalTime getTime() {
+        return time;
+    }
+
+    /**
+     * @return whether the rule fires on the given day of week (WEEKLY only)
+     */
+    boolean firesOn(DayOfWeek dayOfWeek) {
+        return daysOfWeek != null && daysOfWeek[dayOfWeek.getValue()];
+    }
+
+    int getDayOfMonth() {
+        return dayOfMonth;
+    }
+
+    private static boolean isWildcard(String field) {
+        return "*".equals(field) || "?".equals(field);
+    }
+
+    private static Integer parseNumber(String field, int min, int max) {
+        if (!NUMBER.matcher(field).matches()) {
+            return null;
+        }
+        int value = Integer.parseInt(field);
+        return value >= min && value <= max ? value : null;
+    }
+
+    /**
+     * Parse a day-of-week field made of single days and ranges, by name or number.
+     * Like Spring's cron support, 0 and 7 both mean Sunday.
+     * @return matching days indexed by ISO day-of-week, or null if the field uses other syntax
+     */
+    private static boolean[] parseDaysOfWeek(String field) {
+        String value = field.toUpperCase(Locale.ROOT);
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            value = value.replace(DAY_NAMES[i], Integer.toString(i + 1));
+        }
+
+        boolean[] days = new boolean[8];
+        for (String part : value.split(",", -1)) {
+            int dash = part.indexOf('-');
+            Integer from = parseNumber(dash < 0 ? part : part.substring(0, dash), 0, 7);
+            Integer to = dash < 0 ? from : parseNumber(part.substring(dash + 1), 0, 7);
+            if (from == null || to == null || from > to) {
+                return null;
+            }
+            for (int day = from; day <= to; day++) {
+                days[day == 0 ? 7 : day] = true;
+            }
+        }
+        days[0] = false;
+        return days;
+    }
+
+    @Override
+    public LocalDateTime firstAtOrAfter(LocalDateTime anchor, LocalDateTime target) {
+        // Cron occurrences do not depend on the anchor, so jump straight to the target
+        return anchor.isBefore(target) ? next(target.minusNanos(1)) : anchor;
+    }
+
+    @Override
+    public Optional<String> toICalendarRule() {
+        String byTime = ";BYHOUR=" + time.getHour() + ";BYMINUTE=" + time.getMinute() + ";BYSECOND=" + time.getSecond();
+        switch (shape) {
+            case DAILY:
+                return Optional.of("FREQ=DAILY" + byTime);
+            case WEEKLY: {
+                StringBuilder byDay = new StringBuilder();
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    if (firesOn(day)) {
+                        byDay.append(byDay.isEmpty() ? "" : ",").append(day.name(), 0, 2);
+                    }
+                }
+                return Optional.of("FREQ=WEEKLY;BYDAY=" + byDay + byTime);
+            }
+            case MONTHLY:
+                // Like cron, RFC 5545 skips months without that day
+                return Optional.of("FREQ=MONTHLY;BYMONTHDAY=" + dayOfMonth + byTime);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FastCronRecurrenceRule{" + shape + " at " + time + '}';
+    }
+}
@@ -0,0 +1,41 @@
+package de.caransgar.chorehub.recurrence;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over the occurrences of a {@link RecurrenceRule} chain within {@code [from, to)}.
+ * The chain starts at an anchor (usually the chore's next due date) and each following
+ * occurrence is computed only when requested.
+ */
+class OccurrenceIterator implements Iterator<LocalDateTime> {
+
+    private final RecurrenceRule rule;
+    private final LocalDateTime to;
+    private LocalDateTime next;
+
+    OccurrenceIterator(RecurrenceRule rule, LocalDateTime anchor, LocalDateTime from, LocalDateTime to) {
+        this.rule = rule;
+        this.to = to;
+        LocalDateTime first = anchor != null ? rule.firstAtOrAfter(anchor, from) : null;
+        this.next = first != null && first.isBefore(to) ? first : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public LocalDateTime next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        LocalDateTime current = next;
+        LocalDateTime following = rule.next(current);
+        // A rule that does not advance (e.g. a zero duration) would never leave the window
+        next = following != null && following.isAfter(current) && following.isBefore(to) ? following : null;
+        return current;
+    }
+}
@@ -0,0 +1,54 @@
+package de.caransgar.chorehub.recurrence;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * A compiled recurrence pattern.
+ * Instances are immutable and shared through {@link RecurrenceRuleRegistry}.
+ */
+public interface RecurrenceRule {
+
+    /**
+     * Compute the next occurrence of this rule.
+     * @param reference the reference time: the current time for cron schedules,
+     *                  the last completion for completion-based intervals
+     * @return the next occurrence, or null if there is none
+     */
+    LocalDateTime next(LocalDateTime reference);
+
+    /**
+     * Advance a chain of occurrences starting at {@code anchor} to the first one at or after {@code target}.
+     * Implementations override this when they can jump directly instead of stepping.
+     * @return the first occurrence at or after {@code target}, or null if there is none
+     */
+    default LocalDateTime firstAtOrAfter(LocalDateTime anchor, LocalDateTime target) {
+        LocalDateTime current = anchor;
+        while (current != null && current.isBefore(target)) {
+            LocalDateTime next = next(current);
+            if (next == null || !next.isAfter(current)) {
+                return null;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Lazily expand the chain of occurrences starting at {@code anchor} within {@code [from, to)}.
+     * Occurrences are only computed as the iterator is advanced.
+     */
+    default Iterator<LocalDateTime> occurrences(LocalDateTime anchor, LocalDateTime from, LocalDateTime to) {
+        return new OccurrenceIterator(this, anchor, from, to);
+    }
+
+    /**
+     * Describe the chain of occurrences as an iCalendar (RFC 5545) RRULE value,
+     * to be combined with a DTSTART at the chain's first occurrence.
+     * @return the RRULE value, or empty if the rule cannot be expressed as one
+     */
+    default Optional<String> toICalendarRule() {
+        return Optional.empty();
+    }
+}
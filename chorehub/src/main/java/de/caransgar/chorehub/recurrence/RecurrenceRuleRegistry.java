@@ -0,0 +1,102 @@
+package de.caransgar.chorehub.recurrence;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Shared, bounded registry of compiled recurrence rules keyed by recurrence pattern.
+ *
+ * Households use a small set of patterns (e.g. "0 0 8 * * MON" or "P7D"), so each one is
+ * parsed once and reused by the Chore entity, the validators and bulk recomputations.
+ * Invalid patterns are never cached; their parse error is rethrown on every lookup.
+ */
+public final class RecurrenceRuleRegistry {
+
+    /**
+     * Upper bound of cached rules per kind. Beyond it, an arbitrary entry is evicted.
+     */
+    static final int MAX_ENTRIES = 1024;
+
+    private static final Map<String, RecurrenceRule> CRON_RULES = new ConcurrentHashMap<>();
+    private static final Map<String, RecurrenceRule> DURATION_RULES = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private RecurrenceRuleRegistry() {
+    }
+
+    /**
+     * Get the compiled rule for a 6-field cron pattern.
+     * @param pattern the cron pattern
+     * @return the compiled rule
+     * @throws IllegalArgumentException if the pattern is not a valid cron expression
+     */
+    public static RecurrenceRule cron(String pattern) {
+        return lookup(CRON_RULES, pattern, CronRecurrenceRule::compile);
+    }
+
+    /**
+     * Get the compiled rule for an ISO-8601 duration pattern.
+     * @param pattern the duration pattern
+     * @return the compiled rule
+     * @throws java.time.format.DateTimeParseException if the pattern is not a valid duration
+     */
+    public static RecurrenceRule duration(String pattern) {
+        return lookup(DURATION_RULES, pattern, DurationRecurrenceRule::compile);
+    }
+
+    /**
+     * @return a snapshot of the registry's hit/miss counters and size
+     */
+    public static Stats stats() {
+        return new Stats(HITS.sum(), MISSES.sum(), CRON_RULES.size() + DURATION_RULES.size());
+    }
+
+    /**
+     * Drop all cached rules. Counters are kept.
+     */
+    static void clear() {
+        CRON_RULES.clear();
+        DURATION_RULES.clear();
+    }
+
+    private static RecurrenceRule lookup(Map<String, RecurrenceRule> rules, String pattern,
+            Function<String, RecurrenceRule> compiler) {
+        if (pattern == null) {
+            throw new IllegalArgumentException("Recurrence pattern must not be null");
+        }
+
+        RecurrenceRule rule = rules.get(pattern);
+        if (rule != null) {
+            HITS.increment();
+            return rule;
+        }
+
+        MISSES.increment();
+        rule = compiler.apply(pattern);
+        if (rules.size() >= MAX_ENTRIES) {
+            evictOne(rules);
+        }
+        RecurrenceRule existing = rules.putIfAbsent(pattern, rule);
+        return existing != null ? existing : rule;
+    }
+
+    private static void evictOne(Map<String, RecurrenceRule> rules) {
+        Iterator<String> keys = rules.keySet().iterator();
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    /**
+     * Registry counters.
+     * @param hits lookups served from the registry
+     * @param misses lookups that had to parse the pattern
+     * @param size number of cached rules
+     */
+    public record Stats(long hits, long misses, int size) {}
+}
@@ -1,12 +1,46 @@
 package de.caransgar.chorehub.repository;
 
+import de.caransgar.chorehub.dto.ChoreHistoryDTO;
 import de.caransgar.chorehub.entity.ChoreHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ChoreHistoryRepository extends JpaRepository<ChoreHistory, Long> {
 
     List<ChoreHistory> findByChoreId(Long choreId);
+
+    /**
+     * Newest completions of a chore. Use {@code Pageable} only for its page size.
+     */
+    @Query("select new de.caransgar.chorehub.dto.ChoreHistoryDTO(h.id, h.chore.id, h.completedDate, h.notes) "
+            + "from ChoreHistory h where h.chore.id = :choreId "
+            + "order by h.completedDate desc, h.id desc")
+    List<ChoreHistoryDTO> findLatest(@Param("choreId") Long choreId, Pageable pageable);
+
+    /**
+     * Completions of a chore older than the given keyset position, newest first.
+     * Use {@code Pageable} only for its page size.
+     */
+    @Query("select new de.caransgar.chorehub.dto.ChoreHistoryDTO(h.id, h.chore.id, h.completedDate, h.notes) "
+            + "from ChoreHistory h where h.chore.id = :choreId "
+            + "and (h.completedDate < :completedDate or (h.completedDate = :completedDate and h.id < :id)) "
+            + "order by h.completedDate desc, h.id desc")
+    List<ChoreHistoryDTO> findLatestBefore(@Param("choreId") Long choreId,
+            @Param("completedDate") LocalDateTime completedDate, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Delete the history of the given chores in one statement.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ChoreHistory h where h.chore.id in :choreIds")
+    int deleteByChoreIdIn(@Param("choreIds") Collection<Long> choreIds);
 }
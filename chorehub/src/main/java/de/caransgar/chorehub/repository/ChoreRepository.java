@@ -1,16 +1,25 @@
 package de.caransgar.chorehub.repository;
 
+import de.caransgar.chorehub.dto.ChoreDTO;
 import de.caransgar.chorehub.entity.Chore;
 import de.caransgar.chorehub.entity.RecurrenceType;
 import de.caransgar.chorehub.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ChoreRepository extends JpaRepository<Chore, Long> {
+public interface ChoreRepository extends JpaRepository<Chore, Long>, JpaSpecificationExecutor<Chore> {
 
     List<Chore> findByAssignedUser(User user);
 
@@ -22,4 +31,156 @@ public interface ChoreRepository extends JpaRepository<Chore, Long> {
 
     long countByAssignedUser(User assignedUser);
 
+    /**
+     * Chores due before the given time as DTOs, built in one query joined with the assigned user.
+     */
+    @Query("select new de.caransgar.chorehub.dto.ChoreDTO(c.id, c.name, c.description, c.recurrenceType, "
+            + "c.recurrencePattern, u.name, c.createdDate, c.lastCompletedDate, c.nextDueDate) "
+            + "from Chore c left join c.assignedUser u where c.nextDueDate < :end order by c.nextDueDate, c.id")
+    List<ChoreDTO> findDueBeforeAsDTO(@Param("end") LocalDateTime end);
+
+    /**
+     * Chores of a user due before the given time as DTOs, built in one query joined with the user.
+     */
+    @Query("select new de.caransgar.chorehub.dto.ChoreDTO(c.id, c.name, c.description, c.recurrenceType, "
+            + "c.recurrencePattern, u.name, c.createdDate, c.lastCompletedDate, c.nextDueDate) "
+            + "from Chore c join c.assignedUser u where u = :user and c.nextDueDate < :end "
+            + "order by c.nextDueDate, c.id")
+    List<ChoreDTO> findDueBeforeByAssignedUserAsDTO(@Param("end") LocalDateTime end, @Param("user") User user);
+
+    /**
+     * Chores with a due date as DTOs, earliest first, built in one query joined with the assigned user.
+     * Use {@code Pageable} only for its page size; the order is read from idx_chores_next_due_date.
+     */
+    @Query("select new de.caransgar.chorehub.dto.ChoreDTO(c.id, c.name, c.description, c.recurrenceType, "
+            + "c.recurrencePattern, u.name, c.createdDate, c.lastCompletedDate, c.nextDueDate) "
+            + "from Chore c left join c.assignedUser u where c.nextDueDate is not null "
+            + "order by c.nextDueDate, c.id")
+    List<ChoreDTO> findUpcomingAsDTO(Pageable pageable);
+
+    /**
+     * A user's chores with a due date as DTOs, earliest first.
+     * Use {@code Pageable} only for its page size; the order is read from idx_chores_assigned_user_due.
+     */
+    @Query("select new de.caransgar.chorehub.dto.ChoreDTO(c.id, c.name, c.description, c.recurrenceType, "
+            + "c.recurrencePattern, u.name, c.createdDate, c.lastCompletedDate, c.nextDueDate) "
+            + "from Chore c join c.assignedUser u where u = :user and c.nextDueDate is not null "
+            + "order by c.nextDueDate, c.id")
+    List<ChoreDTO> findUpcomingByAssignedUserAsDTO(@Param("user") User user, Pageable pageable);
+
+    /**
+     * Chores due before the given time, with their assigned user fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "assignedUser")
+    @Query("select c from Chore c where c.nextDueDate < :end")
+    List<Chore> findDueBeforeWithAssignedUser(@Param("end") LocalDateTime end);
+
+    /**
+     * Chores that have a due date, with their assigned user fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "assignedUser")
+    @Query("select c from Chore c where c.nextDueDate is not null")
+    List<Chore> findScheduledWithAssignedUser();
+
+    /**
+     * All chores, with their assigned user fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "assignedUser")
+    @Query("select c from Chore c")
+    List<Chore> findAllWithAssignedUser();
+
+    /**
+     * A chore by id, with its assigned user fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "assignedUser")
+    @Query("select c from Chore c where c.id = :id")
+    Optional<Chore> findWithAssignedUserById(@Param("id") Long id);
+
+    /**
+     * Chores by id, with their assigned user fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "assignedUser")
+    @Query("select c from Chore c where c.id in :ids")
+    List<Chore> findWithAssignedUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset scan over the scheduling fields of recurring chores, ordered by id.
+     * Use {@code Pageable} only for its page size; the position is given by {@code afterId}.
+     */
+    @Query("select new de.caransgar.chorehub.repository.ChoreSchedule("
+            + "c.id, c.recurrenceType, c.recurrencePattern, c.createdDate, c.lastCompletedDate, c.nextDueDate) "
+            + "from Chore c where c.id > :afterId and c.recurrenceType <> :excludedType order by c.id")
+    List<ChoreSchedule> findSchedulesAfter(@Param("afterId") Long afterId,
+            @Param("excludedType") RecurrenceType excludedType, Pageable pageable);
+
+    /**
+     * The given ids that belong to an existing chore.
+     */
+    @Query("select c.id from Chore c where c.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids of all chores assigned to a user, in id order.
+     */
+    @Query("select c.id from Chore c where c.assignedUser = :user order by c.id")
+    List<Long> findIdsByAssignedUser(@Param("user") User user);
+
+    /**
+     * Scheduling fields of the given chores, without loading entities.
+     */
+    @Query("select new de.caransgar.chorehub.repository.ChoreSchedule("
+            + "c.id, c.recurrenceType, c.recurrencePattern, c.createdDate, c.lastCompletedDate, c.nextDueDate) "
+            + "from Chore c where c.id in :ids")
+    List<ChoreSchedule> findSchedulesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Assign the given chores to a user, or unassign them if the user is null, in one statement.
+     * Bypasses the persistence context, which is cleared afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Chore c set c.assignedUser = :user, c.version = c.version + 1 where c.id in :ids")
+    int updateAssignedUser(@Param("ids") Collection<Long> ids, @Param("user") User user);
+
+    /**
+     * Unassign all chores of the given users in one statement.
+     * Bypasses the persistence context, which is cleared afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Chore c set c.assignedUser = null, c.version = c.version + 1 "
+            + "where c.assignedUser.id in :userIds")
+    int unassignUsers(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Bump the version of all chores assigned to a user in one statement, e.g. after the user was renamed.
+     * Bypasses the persistence context, which is cleared afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Chore c set c.version = c.version + 1 where c.assignedUser.id = :userId")
+    int touchByAssignedUser(@Param("userId") Long userId);
+
+    /**
+     * Set the recurrence of the given chores in one statement.
+     * Bypasses the persistence context, which is cleared afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Chore c set c.recurrenceType = :type, c.recurrencePattern = :pattern, "
+            + "c.version = c.version + 1 where c.id in :ids")
+    int updateRecurrence(@Param("ids") Collection<Long> ids, @Param("type") RecurrenceType type,
+            @Param("pattern") String pattern);
+
+    /**
+     * Set the same next due date on the given chores in one statement.
+     * Bypasses the persistence context, which is cleared afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Chore c set c.nextDueDate = :nextDueDate, c.version = c.version + 1 where c.id in :ids")
+    int updateNextDueDate(@Param("ids") Collection<Long> ids, @Param("nextDueDate") LocalDateTime nextDueDate);
+
+    /**
+     * Delete the given chores in one statement. Their history must be deleted first,
+     * see {@link ChoreHistoryRepository#deleteByChoreIdIn}.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Chore c where c.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,13 @@
+package de.caransgar.chorehub.repository;
+
+import de.caransgar.chorehub.entity.RecurrenceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of the fields that determine a chore's next due date.
+ * Lets bulk operations scan chores without loading entities or their associations.
+ */
+public record ChoreSchedule(Long id, RecurrenceType recurrenceType, String recurrencePattern,
+        LocalDateTime createdDate, LocalDateTime lastCompletedDate, LocalDateTime nextDueDate) {
+}
@@ -0,0 +1,99 @@
+package de.caransgar.chorehub.repository;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreStatus;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Composable filters for the chore list.
+ *
+ * Each filter only adds its own predicate, so the generated SQL contains exactly the conditions
+ * that were requested and can use the due date and assignee indexes.
+ */
+public final class ChoreSpecifications {
+
+    private ChoreSpecifications() {
+    }
+
+    /**
+     * No restriction; fetches the assigned user in the same query.
+     */
+    public static Specification<Chore> fetchAssignedUser() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class) {
+                root.fetch("assignedUser", JoinType.LEFT);
+            }
+            return cb.conjunction();
+        };
+    }
+
+    public static Specification<Chore> assignedTo(User user) {
+        return (root, query, cb) -> cb.equal(root.get("assignedUser"), user);
+    }
+
+    public static Specification<Chore> hasRecurrenceType(RecurrenceType recurrenceType) {
+        return (root, query, cb) -> cb.equal(root.get("recurrenceType"), recurrenceType);
+    }
+
+    public static Specification<Chore> dueAtOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("nextDueDate"), from);
+    }
+
+    public static Specification<Chore> dueBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("nextDueDate"), to);
+    }
+
+    public static Specification<Chore> hasDueDate(boolean scheduled) {
+        return (root, query, cb) -> scheduled
+                ? cb.isNotNull(root.get("nextDueDate"))
+                : cb.isNull(root.get("nextDueDate"));
+    }
+
+    /**
+     * Chores with the given status at the given time, with the same rules as
+     * {@link de.caransgar.chorehub.mqtt.ChoreStatePublisher#computeStatus}.
+     */
+    public static Specification<Chore> hasStatus(ChoreStatus status, LocalDateTime now) {
+        return (root, query, cb) -> {
+            var nextDueDate = root.<LocalDateTime>get("nextDueDate");
+            var lastCompletedDate = root.<LocalDateTime>get("lastCompletedDate");
+            return switch (status) {
+                case OVERDUE -> cb.lessThan(nextDueDate, now);
+                case DUE -> cb.or(
+                        cb.and(cb.isNull(lastCompletedDate),
+                                cb.or(cb.isNull(nextDueDate), cb.greaterThanOrEqualTo(nextDueDate, now))),
+                        cb.equal(nextDueDate, now));
+                case DONE -> cb.and(cb.isNotNull(lastCompletedDate),
+                        cb.or(cb.isNull(nextDueDate), cb.greaterThan(nextDueDate, now)));
+            };
+        };
+    }
+
+    /**
+     * Chores after the given id in id order.
+     */
+    public static Specification<Chore> idAfter(Long id, boolean descending) {
+        return (root, query, cb) -> descending
+                ? cb.lessThan(root.get("id"), id)
+                : cb.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Chores after the given position in (nextDueDate, id) order. Only matches chores with a due date.
+     */
+    public static Specification<Chore> dueAfter(LocalDateTime nextDueDate, Long id, boolean descending) {
+        return (root, query, cb) -> {
+            var due = root.<LocalDateTime>get("nextDueDate");
+            var choreId = root.<Long>get("id");
+            return descending
+                    ? cb.or(cb.lessThan(due, nextDueDate), cb.and(cb.equal(due, nextDueDate), cb.lessThan(choreId, id)))
+                    : cb.or(cb.greaterThan(due, nextDueDate),
+                            cb.and(cb.equal(due, nextDueDate), cb.greaterThan(choreId, id)));
+        };
+    }
+}
@@ -1,15 +1,34 @@
 package de.caransgar.chorehub.repository;
 
 import de.caransgar.chorehub.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /** Query cache region of active user lookups by name. */
+    String BY_NAME_CACHE_REGION = "users-by-name";
+
+    /**
+     * Cached in the query cache; Hibernate invalidates it whenever the users table is
+     * written through JPA, so saves, soft deletes and cleanups are reflected immediately.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_NAME_CACHE_REGION)
+    })
     Optional<User> findByNameAndDeletedFalse(String name);
 
     Optional<User> findByShortnameAndDeletedFalse(String shortname);
@@ -20,4 +39,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByDeletedFalse();
 
+    /**
+     * Keyset scan over the ids of soft-deleted users, ordered by id.
+     * Use {@code Pageable} only for its page size; the position is given by {@code afterId}.
+     */
+    @Query("select u.id from User u where u.deleted = true and u.id > :afterId order by u.id")
+    List<Long> findDeletedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Hard delete the given users in one statement, if they are soft-deleted.
+     * As a bulk JPQL statement it still evicts the users cache regions.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.deleted = true and u.id in :ids")
+    int deleteDeletedByIdIn(@Param("ids") Collection<Long> ids);
 }
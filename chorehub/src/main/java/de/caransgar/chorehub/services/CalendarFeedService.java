@@ -0,0 +1,251 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.recurrence.RecurrenceRule;
+import de.caransgar.chorehub.recurrence.RecurrenceRuleRegistry;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * iCalendar (RFC 5545) feed of all chores, for calendar apps that poll frequently.
+ *
+ * Each chore is rendered once into a VEVENT block and kept as bytes; only chores named in a
+ * {@link ChoresChangedEvent} are reloaded and re-rendered on the next request. The feed's ETag
+ * is an in-memory version bumped after every committed change, so unchanged polls can be
+ * answered with 304 without touching the database.
+ *
+ * Recurring chores get an RRULE when their pattern can be expressed as one (daily, weekly and
+ * monthly cron shapes, fixed intervals); otherwise only the next due date is published.
+ * Times are floating local times, like everywhere else in ChoreHub.
+ */
+@Service
+public class CalendarFeedService {
+
+    private static final String CRLF = "\r\n";
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ChoreRepository choreRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** Rendered VEVENT blocks by chore id, in id order. */
+    private final Map<Long, CalendarEvent> events = new ConcurrentSkipListMap<>();
+    /** Chores to reload on the next feed request. */
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    /** Rendered feeds by username ("" for all chores), valid for {@link CalendarFeed#version()}. */
+    private final Map<String, CalendarFeed> feeds = new ConcurrentHashMap<>();
+    /** Seeded with the start time so ETags of a previous run never match. */
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private volatile boolean reloadAll = true;
+
+    public CalendarFeedService(ChoreRepository choreRepository, PlatformTransactionManager transactionManager) {
+        this.choreRepository = choreRepository;
+        // Not read-only: dirty chores are reloaded right after their commit, which a replica could still lag behind
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @return the ETag of the current feed version; never accesses the database
+     */
+    public String getETag() {
+        return toETag(version.get());
+    }
+
+    /**
+     * Get the feed, re-rendering only chores that changed since the last request.
+     *
+     * @param username only include chores assigned to this user, or null for all chores
+     * @return the feed with its ETag
+     */
+    public synchronized CalendarFeed getFeed(String username) {
+        long current = version.get();
+        if (synchronize()) {
+            feeds.clear();
+        }
+
+        String key = username != null ? username : "";
+        CalendarFeed cached = feeds.get(key);
+        if (cached != null && cached.version() == current) {
+            return cached;
+        }
+        CalendarFeed feed = new CalendarFeed(current, toETag(current), render(username));
+        feeds.put(key, feed);
+        return feed;
+    }
+
+    /**
+     * Mark changed chores for re-rendering once the change is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChoresChanged(ChoresChangedEvent event) {
+        if (event.all()) {
+            reloadAll = true;
+        } else {
+            dirty.addAll(event.changedIds());
+            dirty.addAll(event.deletedIds());
+        }
+        // Bump last, so a request that sees the new version also sees what changed
+        version.incrementAndGet();
+    }
+
+    /**
+     * Bring the rendered events up to date with the database.
+     * @return whether anything was reloaded
+     */
+    private boolean synchronize() {
+        if (reloadAll) {
+            reloadAll = false;
+            dirty.clear();
+            events.clear();
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        choreRepository.findScheduledWithAssignedUser().forEach(this::putEvent));
+            } catch (RuntimeException e) {
+                reloadAll = true;
+                throw e;
+            }
+            return true;
+        }
+        if (dirty.isEmpty()) {
+            return false;
+        }
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+        ids.forEach(events::remove);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    choreRepository.findWithAssignedUserByIdIn(ids).forEach(this::putEvent));
+        } catch (RuntimeException e) {
+            // Retry on the next request instead of serving the feed without these chores
+            dirty.addAll(ids);
+            throw e;
+        }
+        return true;
+    }
+
+    private void putEvent(Chore chore) {
+        if (chore.getNextDueDate() == null) {
+            return;
+        }
+        String assignedUsername = chore.getAssignedUser() != null ? chore.getAssignedUser().getName() : null;
+        events.put(chore.getId(), new CalendarEvent(assignedUsername, renderEvent(chore, assignedUsername)));
+    }
+
+    private byte[] render(String username) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeLine(out, "BEGIN:VCALENDAR");
+        writeLine(out, "VERSION:2.0");
+        writeLine(out, "PRODID:-//ChoreHub//Chores//EN");
+        writeLine(out, "CALSCALE:GREGORIAN");
+        writeLine(out, "X-WR-CALNAME:" + escape(username != null ? "ChoreHub - " + username : "ChoreHub"));
+        for (CalendarEvent event : events.values()) {
+            if (username == null || username.equals(event.assignedUsername())) {
+                out.writeBytes(event.content());
+            }
+        }
+        writeLine(out, "END:VCALENDAR");
+        return out.toByteArray();
+    }
+
+    private static byte[] renderEvent(Chore chore, String assignedUsername) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeLine(out, "BEGIN:VEVENT");
+        writeLine(out, "UID:chore-" + chore.getId() + "@chorehub");
+        writeLine(out, "DTSTAMP:" + LocalDateTime.now(ZoneOffset.UTC).format(LOCAL_DATE_TIME) + "Z");
+        writeLine(out, "DTSTART:" + chore.getNextDueDate().format(LOCAL_DATE_TIME));
+        toICalendarRule(chore).ifPresent(rule -> writeLine(out, "RRULE:" + rule));
+        writeLine(out, "SUMMARY:" + escape(chore.getName()));
+
+        List<String> description = new ArrayList<>();
+        if (chore.getDescription() != null && !chore.getDescription().isBlank()) {
+            description.add(chore.getDescription());
+        }
+        if (assignedUsername != null) {
+            description.add("Assigned to: " + assignedUsername);
+        }
+        if (!description.isEmpty()) {
+            writeLine(out, "DESCRIPTION:" + escape(String.join("\n", description)));
+        }
+        writeLine(out, "END:VEVENT");
+        return out.toByteArray();
+    }
+
+    private static Optional<String> toICalendarRule(Chore chore) {
+        try {
+            RecurrenceRule rule;
+            if (chore.getRecurrenceType() == RecurrenceType.FIXED_SCHEDULE) {
+                rule = RecurrenceRuleRegistry.cron(chore.getRecurrencePattern());
+            } else if (chore.getRecurrenceType() == RecurrenceType.AFTER_COMPLETION) {
+                rule = RecurrenceRuleRegistry.duration(chore.getRecurrencePattern());
+            } else {
+                return Optional.empty();
+            }
+            return rule.toICalendarRule();
+        } catch (RuntimeException e) {
+            // Invalid patterns still publish the next due date
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Escape a TEXT value (RFC 5545 section 3.3.11).
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    /**
+     * Write a content line, folded at 75 octets without splitting UTF-8 characters (RFC 5545 section 3.1).
+     */
+    private static void writeLine(ByteArrayOutputStream out, String line) {
+        int lineOctets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            byte[] bytes = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+            if (lineOctets + bytes.length > 75) {
+                out.writeBytes((CRLF + " ").getBytes(StandardCharsets.US_ASCII));
+                lineOctets = 1;
+            }
+            out.writeBytes(bytes);
+            lineOctets += bytes.length;
+            i += Character.charCount(codePoint);
+        }
+        out.writeBytes(CRLF.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String toETag(long version) {
+        return "\"ics-" + Long.toHexString(version) + "\"";
+    }
+
+    private record CalendarEvent(String assignedUsername, byte[] content) {}
+
+    /**
+     * A rendered feed.
+     * @param version the data version the feed was rendered for
+     * @param eTag    the quoted ETag of that version
+     * @param content the iCalendar document
+     */
+    public record CalendarFeed(long version, String eTag, byte[] content) {}
+}
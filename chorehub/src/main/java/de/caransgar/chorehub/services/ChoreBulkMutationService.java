@@ -0,0 +1,235 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.dto.BulkMutationRequest;
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.mqtt.ChoreTransitionScheduler;
+import de.caransgar.chorehub.mqtt.MqttBatchPublisher;
+import de.caransgar.chorehub.repository.ChoreHistoryRepository;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.ChoreSchedule;
+import de.caransgar.chorehub.utils.QueryUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Set-based changes to many chores at once: reassign, change recurrence, delete.
+ *
+ * Each change runs as a few JPQL bulk statements over id chunks instead of loading and saving
+ * every chore, all in one transaction. Due dates are only recomputed for chores whose recurrence
+ * actually changed. MQTT removals and state updates are published as one paced batch after
+ * commit, see {@link MqttBatchPublisher}.
+ */
+@Service
+@Transactional
+public class ChoreBulkMutationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChoreBulkMutationService.class);
+
+    /** Maximum number of chore ids in one request. */
+    public static final int MAX_CHORE_IDS = 500;
+
+    private static final String UPDATE_NEXT_DUE_DATE_SQL =
+            "UPDATE chores SET next_due_date = ?, version = version + 1 WHERE id = ?";
+
+    private final ChoreRepository choreRepository;
+    private final ChoreHistoryRepository choreHistoryRepository;
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChoreTransitionScheduler transitionScheduler;
+    private final MqttBatchPublisher batchPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ChoreBulkMutationService(ChoreRepository choreRepository, ChoreHistoryRepository choreHistoryRepository,
+            UserService userService, JdbcTemplate jdbcTemplate, ChoreTransitionScheduler transitionScheduler,
+            MqttBatchPublisher batchPublisher, ApplicationEventPublisher eventPublisher) {
+        this.choreRepository = choreRepository;
+        this.choreHistoryRepository = choreHistoryRepository;
+        this.userService = userService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transitionScheduler = transitionScheduler;
+        this.batchPublisher = batchPublisher;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Apply one change to all selected chores.
+     *
+     * @param request the change and the chores to apply it to
+     * @return the chores that were changed and the requested ids without a chore
+     * @throws IllegalArgumentException if the selection or the change is invalid
+     */
+    public BulkMutationResult mutate(BulkMutationRequest request) {
+        if (request == null || request.getAction() == null) {
+            throw new IllegalArgumentException("Action is required");
+        }
+        // Validate the change before touching anything
+        User assignee = null;
+        String pattern = null;
+        switch (request.getAction()) {
+            case REASSIGN -> assignee = resolveAssignee(request.getAssignedUsername());
+            case CHANGE_RECURRENCE -> {
+                ChoreService.validateRecurrence(request.getRecurrenceType(), request.getRecurrencePattern());
+                pattern = request.getRecurrenceType() == RecurrenceType.ONETIME
+                        ? null : request.getRecurrencePattern();
+            }
+            case DELETE -> {
+            }
+        }
+
+        Selection selection = select(request);
+        List<Long> affected = switch (request.getAction()) {
+            case REASSIGN -> reassign(selection.ids(), assignee);
+            case CHANGE_RECURRENCE -> changeRecurrence(selection.ids(), request.getRecurrenceType(), pattern);
+            case DELETE -> delete(selection.ids());
+        };
+
+        LOG.info("Bulk {} changed {} of {} selected chores", request.getAction(), affected.size(),
+                selection.ids().size());
+        return new BulkMutationResult(request.getAction(), affected, selection.notFound());
+    }
+
+    private User resolveAssignee(String username) {
+        if (username == null || username.isBlank()) {
+            return null;
+        }
+        return userService.getUserByName(username)
+                .orElseThrow(() -> new IllegalArgumentException("User with name '" + username + "' not found"));
+    }
+
+    private Selection select(BulkMutationRequest request) {
+        boolean byIds = request.getChoreIds() != null;
+        boolean byAssignee = request.getCurrentAssignee() != null && !request.getCurrentAssignee().isBlank();
+        if (byIds == byAssignee) {
+            throw new IllegalArgumentException("Select chores by either choreIds or currentAssignee");
+        }
+
+        if (byAssignee) {
+            User user = userService.getUserByName(request.getCurrentAssignee())
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "User with name '" + request.getCurrentAssignee() + "' not found"));
+            return new Selection(choreRepository.findIdsByAssignedUser(user), List.of());
+        }
+
+        if (request.getChoreIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one chore id is required");
+        }
+        if (request.getChoreIds().contains(null)) {
+            throw new IllegalArgumentException("Chore ids cannot be null");
+        }
+        List<Long> requested = List.copyOf(new LinkedHashSet<>(request.getChoreIds()));
+        if (requested.size() > MAX_CHORE_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_CHORE_IDS + " chores can be changed at once");
+        }
+        Set<Long> existing = new HashSet<>(choreRepository.findExistingIds(requested));
+        List<Long> ids = new ArrayList<>(existing.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : requested) {
+            (existing.contains(id) ? ids : notFound).add(id);
+        }
+        return new Selection(ids, notFound);
+    }
+
+    private List<Long> reassign(List<Long> ids, User assignee) {
+        for (List<Long> chunk : QueryUtils.inChunks(ids)) {
+            choreRepository.updateAssignedUser(chunk, assignee);
+        }
+        publishChanged(ids, false);
+        return ids;
+    }
+
+    private List<Long> changeRecurrence(List<Long> ids, RecurrenceType type, String pattern) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, LocalDateTime> nextDueDates = new LinkedHashMap<>();
+        for (List<Long> chunk : QueryUtils.inChunks(ids)) {
+            for (ChoreSchedule schedule : choreRepository.findSchedulesByIdIn(chunk)) {
+                if (schedule.recurrenceType() == type && Objects.equals(schedule.recurrencePattern(), pattern)) {
+                    continue;
+                }
+                nextDueDates.put(schedule.id(), Chore.computeNextDueDate(type, pattern,
+                        schedule.createdDate(), schedule.lastCompletedDate(), now));
+            }
+        }
+        List<Long> changed = List.copyOf(nextDueDates.keySet());
+        if (changed.isEmpty()) {
+            return changed;
+        }
+
+        for (List<Long> chunk : QueryUtils.inChunks(changed)) {
+            choreRepository.updateRecurrence(chunk, type, pattern);
+        }
+        Set<LocalDateTime> distinctDueDates = new HashSet<>(nextDueDates.values());
+        if (distinctDueDates.size() == 1) {
+            // Cron schedules and one-time chores all get the same due date
+            LocalDateTime nextDueDate = distinctDueDates.iterator().next();
+            for (List<Long> chunk : QueryUtils.inChunks(changed)) {
+                choreRepository.updateNextDueDate(chunk, nextDueDate);
+            }
+        } else {
+            // Durations count from each chore's own last completion: one JDBC batch
+            List<Object[]> rows = new ArrayList<>(nextDueDates.size());
+            nextDueDates.forEach((id, due) -> rows.add(
+                    new Object[] { due == null ? null : Timestamp.valueOf(due), id }));
+            jdbcTemplate.batchUpdate(UPDATE_NEXT_DUE_DATE_SQL, rows);
+        }
+
+        publishChanged(changed, true);
+        return changed;
+    }
+
+    private List<Long> delete(List<Long> ids) {
+        for (List<Long> chunk : QueryUtils.inChunks(ids)) {
+            choreHistoryRepository.deleteByChoreIdIn(chunk);
+            choreRepository.deleteByIdIn(chunk);
+        }
+        ids.forEach(transitionScheduler::untrack);
+        eventPublisher.publishEvent(ChoresChangedEvent.deleted(ids));
+        batchPublisher.publishRemoved(ids);
+        return ids;
+    }
+
+    /**
+     * Reload the changed chores for their MQTT state, optionally reschedule their status transitions,
+     * and notify listeners.
+     */
+    private void publishChanged(List<Long> ids, boolean dueDatesChanged) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Chore> chores = new ArrayList<>(ids.size());
+        for (List<Long> chunk : QueryUtils.inChunks(ids)) {
+            chores.addAll(choreRepository.findWithAssignedUserByIdIn(chunk));
+        }
+        if (dueDatesChanged) {
+            chores.forEach(transitionScheduler::track);
+        }
+        eventPublisher.publishEvent(ChoresChangedEvent.changed(ids));
+        batchPublisher.publishState(chores);
+    }
+
+    private record Selection(List<Long> ids, List<Long> notFound) {}
+
+    /**
+     * Result of a bulk mutation.
+     * @param action   the applied change
+     * @param affected the ids of the changed chores; for CHANGE_RECURRENCE only those whose recurrence differed
+     * @param notFound the requested ids without a chore
+     */
+    public record BulkMutationResult(BulkMutationRequest.Action action, List<Long> affected, List<Long> notFound) {}
+}
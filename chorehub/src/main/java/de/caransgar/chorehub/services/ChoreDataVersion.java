@@ -0,0 +1,60 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.mqtt.ChoreTransitionScheduler;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of all chore and user data, for ETags of the chore collection endpoints.
+ *
+ * The version is kept in memory and bumped after every committed {@link ChoresChangedEvent} and
+ * {@link UsersChangedEvent}, so conditional requests can be answered without any database access.
+ * Chore responses also depend on the clock: the computed status changes when a due date passes,
+ * and "due" means due before tomorrow. The ETag therefore also carries the number of status
+ * transitions fired by {@link ChoreTransitionScheduler} and the current date.
+ */
+@Component
+public class ChoreDataVersion {
+
+    /** Seeded with the start time so ETags of a previous run never match. */
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private final ChoreTransitionScheduler transitionScheduler;
+
+    public ChoreDataVersion(ChoreTransitionScheduler transitionScheduler) {
+        this.transitionScheduler = transitionScheduler;
+    }
+
+    /**
+     * @return the current data version; only ever grows
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * @return the strong ETag of every chore collection at the current version and time;
+     *         never accesses the database
+     */
+    public String collectionETag() {
+        return "\"chores-" + Long.toHexString(version.get()) + "-"
+                + Long.toHexString(transitionScheduler.transitionCount()) + "-" + LocalDate.now() + "\"";
+    }
+
+    // Bump last, so a request that sees the new version also sees what changed (e.g. in the read model)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChoresChanged(ChoresChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,236 @@
+package de.caransgar.chorehub.services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caransgar.chorehub.config.ImportConfigProperties;
+import de.caransgar.chorehub.dto.CreateChoreRequest;
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.mqtt.ChoreTransitionScheduler;
+import de.caransgar.chorehub.mqtt.MqttBatchPublisher;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Streaming bulk import of chores from NDJSON or a JSON array.
+ *
+ * Each chore is validated with the same rules as {@link ChoreService#createChore}; invalid chores
+ * are reported with their line (NDJSON) or position (JSON array) and skipped. Valid chores are
+ * saved in chunks, one transaction and a few JDBC batches per chunk, so a failing chunk does not
+ * abort the rest of the import. MQTT discovery and state are published for all created chores as
+ * one paced batch after the last chunk is committed. Like {@link DueDateRecomputationService}
+ * this service manages its own transactions.
+ */
+@Service
+public class ChoreImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChoreImportService.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Supported import formats.
+     */
+    public enum Format {
+        /** One chore object per line. */
+        NDJSON,
+        /** A single JSON array of chore objects. */
+        JSON_ARRAY
+    }
+
+    private final ChoreRepository choreRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+    private final ChoreTransitionScheduler transitionScheduler;
+    private final MqttBatchPublisher batchPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImportConfigProperties config;
+
+    public ChoreImportService(ChoreRepository choreRepository, UserService userService,
+            PlatformTransactionManager transactionManager, ChoreTransitionScheduler transitionScheduler,
+            MqttBatchPublisher batchPublisher, ApplicationEventPublisher eventPublisher,
+            ImportConfigProperties config) {
+        this.choreRepository = choreRepository;
+        this.userService = userService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transitionScheduler = transitionScheduler;
+        this.batchPublisher = batchPublisher;
+        this.eventPublisher = eventPublisher;
+        this.config = config;
+    }
+
+    /**
+     * Import chores from a stream.
+     *
+     * @param body   the request body
+     * @param format the format of the body
+     * @return the import report
+     * @throws IOException if the body cannot be read
+     * @throws IllegalArgumentException if a JSON array body does not start with an array
+     */
+    public ImportResult importChores(InputStream body, Format format) throws IOException {
+        ImportRun run = new ImportRun();
+        if (format == Format.NDJSON) {
+            readNdjson(body, run);
+        } else {
+            readJsonArray(body, run);
+        }
+        run.flush();
+
+        run.created.forEach(transitionScheduler::track);
+        batchPublisher.publishCreated(run.created);
+
+        List<Long> createdIds = run.created.stream().map(Chore::getId).toList();
+        LOG.info("Imported {} of {} chores ({} errors)", createdIds.size(), run.received, run.errors.size());
+        return new ImportResult(run.received, createdIds, run.errors);
+    }
+
+    private void readNdjson(InputStream body, ImportRun run) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                run.accept(number, objectMapper.readValue(line, CreateChoreRequest.class));
+            } catch (JsonProcessingException e) {
+                run.reject(number, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private void readJsonArray(InputStream body, ImportRun run) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Request body must be a JSON array of chores");
+            }
+            int number = 0;
+            while (true) {
+                JsonNode node;
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == null || token == JsonToken.END_ARRAY) {
+                        return;
+                    }
+                    number++;
+                    node = objectMapper.readTree(parser);
+                } catch (JsonProcessingException e) {
+                    // The rest of the array cannot be located after a syntax error
+                    run.reject(number, "Invalid JSON, import stopped: " + e.getOriginalMessage());
+                    return;
+                }
+                try {
+                    run.accept(number, objectMapper.treeToValue(node, CreateChoreRequest.class));
+                } catch (JsonProcessingException e) {
+                    run.reject(number, "Invalid chore: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * State of one import: validated chores waiting for the next chunk, created chores and errors.
+     */
+    private final class ImportRun {
+        private final List<PendingChore> pending = new ArrayList<>();
+        private final List<Chore> created = new ArrayList<>();
+        private final List<ImportError> errors = new ArrayList<>();
+        /** Users by name, resolved once per import. */
+        private final Map<String, Optional<User>> users = new HashMap<>();
+        private int received;
+
+        void accept(int line, CreateChoreRequest request) {
+            received++;
+            try {
+                if (request == null) {
+                    throw new IllegalArgumentException("Chore cannot be null");
+                }
+                ChoreService.validateChoreCreation(request);
+                User assignedUser = null;
+                String username = request.getAssignedUsername();
+                if (username != null && !username.isBlank()) {
+                    assignedUser = users.computeIfAbsent(username, userService::getUserByName)
+                            .orElseThrow(() -> new IllegalArgumentException(
+                                    "User with name '" + username + "' not found"));
+                }
+                pending.add(new PendingChore(line, new Chore(
+                        request.getName(),
+                        request.getDescription(),
+                        request.getRecurrenceType(),
+                        request.getRecurrencePattern(),
+                        assignedUser)));
+            } catch (IllegalArgumentException e) {
+                errors.add(new ImportError(line, e.getMessage()));
+            }
+            if (pending.size() >= Math.max(1, config.getChunkSize())) {
+                flush();
+            }
+        }
+
+        void reject(int line, String message) {
+            received++;
+            errors.add(new ImportError(line, message));
+        }
+
+        /**
+         * Save the pending chores in one transaction.
+         */
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<PendingChore> chunk = List.copyOf(pending);
+            pending.clear();
+            List<Chore> chores = chunk.stream().map(PendingChore::chore).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    choreRepository.saveAll(chores);
+                    eventPublisher.publishEvent(ChoresChangedEvent.changed(
+                            chores.stream().map(Chore::getId).toList()));
+                });
+                created.addAll(chores);
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to save a chunk of {} imported chores", chunk.size(), e);
+                chunk.forEach(c -> errors.add(new ImportError(c.line(), "Could not be saved: " + e.getMessage())));
+            }
+        }
+    }
+
+    private record PendingChore(int line, Chore chore) {}
+
+    /**
+     * An import line that was not imported.
+     * @param line    the line number (NDJSON) or 1-based position in the array (JSON array)
+     * @param message why it was not imported
+     */
+    public record ImportError(int line, String message) {}
+
+    /**
+     * Report of an import.
+     * @param received   the number of chores read
+     * @param createdIds the ids of the created chores, in input order
+     * @param errors     the chores that were not imported
+     */
+    public record ImportResult(int received, List<Long> createdIds, List<ImportError> errors) {}
+}
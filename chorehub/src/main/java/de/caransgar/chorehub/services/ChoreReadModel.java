@@ -0,0 +1,576 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.config.ReadModelConfigProperties;
+import de.caransgar.chorehub.dto.ChoreCursor;
+import de.caransgar.chorehub.dto.ChoreDTO;
+import de.caransgar.chorehub.dto.ChoreSort;
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreStatus;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.mqtt.ChoreStatePublisher;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.utils.QueryUtils;
+import de.caransgar.chorehub.utils.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * In-memory read model of all chores, serving the chore list and due chore endpoints without
+ * touching the database.
+ *
+ * Holds one immutable {@link ChoreSnapshot} per chore, loaded once when the application is ready
+ * and refreshed after every committed {@link ChoresChangedEvent}. Snapshots carry the chore
+ * version, so a refresh that loaded an older state than one already applied is ignored. Deleted
+ * chores leave a short-lived tombstone, so a refresh that loaded them before the deletion
+ * committed does not bring them back. The status depends on the current time and is computed on
+ * read, not stored.
+ *
+ * Chores with a due date are also kept in {@link DueDateIndex}es, one over all chores and one
+ * per assignee, so due, overdue and due-before queries only touch the chores they return.
+ * Snapshots and indexes are changed together under the model's lock; reads do not lock.
+ *
+ * A periodic consistency check compares the model with the database and repairs differences;
+ * if a refresh fails the model stops serving until the next check reloads it. Opt-in with
+ * chorehub.read-model.enabled; when disabled or not yet loaded, callers query the database.
+ */
+@Service
+public class ChoreReadModel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChoreReadModel.class);
+
+    /** How long deleted ids are remembered; far longer than any refresh that could have loaded them. */
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofMinutes(10);
+
+    private final ChoreRepository choreRepository;
+    private final ReadModelConfigProperties config;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, ChoreSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final DueDateIndex dueIndex = new DueDateIndex();
+    private final Map<Long, DueDateIndex> dueIndexByAssignee = new ConcurrentHashMap<>();
+    /** Deleted chore ids and when they were deleted, guarded by the model's lock. */
+    private final Map<Long, Instant> tombstones = new HashMap<>();
+    private final AtomicLong repairs = new AtomicLong();
+    private volatile boolean loaded;
+
+    public ChoreReadModel(ChoreRepository choreRepository, ReadModelConfigProperties config,
+            PlatformTransactionManager transactionManager) {
+        this.choreRepository = choreRepository;
+        this.config = config;
+        // Refreshes run after the commit that triggered them, in their own transaction.
+        // Not read-only: a replica could still lag behind that commit.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return whether reads can be served from memory
+     */
+    public boolean isServing() {
+        return loaded && config.isEnabled();
+    }
+
+    /**
+     * Load all chores once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            reloadAll();
+            LOG.info("Loaded {} chores into the read model", snapshots.size());
+        } catch (Exception e) {
+            LOG.error("Failed to load the chore read model, serving chores from the database", e);
+        }
+    }
+
+    /**
+     * Apply a committed change to the model, before listeners that bump versions for it
+     * (see {@link ChoreDataVersion}).
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChoresChanged(ChoresChangedEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            if (event.all()) {
+                reloadAll();
+                return;
+            }
+            event.deletedIds().forEach(this::remove);
+            if (!event.changedIds().isEmpty()) {
+                reload(event.changedIds());
+            }
+        } catch (Exception e) {
+            loaded = false;
+            LOG.error("Failed to refresh the chore read model, serving chores from the database until reloaded", e);
+        }
+    }
+
+    /**
+     * Replace the whole model with the current database state.
+     */
+    public void reloadAll() {
+        List<ChoreSnapshot> current = transactionTemplate.execute(status -> choreRepository.findAllWithAssignedUser()
+                .stream()
+                .map(ChoreSnapshot::of)
+                .toList());
+        replaceAll(current);
+        loaded = true;
+    }
+
+    /**
+     * Compare the model with the database and repair every difference.
+     * Reloads the whole model if it is not serving, e.g. after a failed refresh.
+     *
+     * @return what was found, or null if the read model is disabled
+     */
+    @Scheduled(fixedRateString = "${chorehub.read-model.consistency-check-interval:PT1H}",
+            initialDelayString = "${chorehub.read-model.consistency-check-interval:PT1H}")
+    public ConsistencyReport checkConsistency() {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        try {
+            purgeTombstones();
+            if (!loaded) {
+                reloadAll();
+                LOG.info("Reloaded {} chores into the read model", snapshots.size());
+                return new ConsistencyReport(snapshots.size(), 0, 0, 0);
+            }
+
+            Map<Long, ChoreSnapshot> current = new HashMap<>();
+            transactionTemplate.executeWithoutResult(status -> choreRepository.findAllWithAssignedUser()
+                    .forEach(chore -> current.put(chore.getId(), ChoreSnapshot.of(chore))));
+
+            int missing = 0;
+            int stale = 0;
+            for (ChoreSnapshot snapshot : current.values()) {
+                ChoreSnapshot held = snapshots.get(snapshot.id());
+                if (held == null) {
+                    if (put(snapshot)) {
+                        missing++;
+                    }
+                } else if (!held.equals(snapshot) && snapshot.version() >= held.version()) {
+                    if (put(snapshot)) {
+                        stale++;
+                    }
+                }
+            }
+            // Chores created since the query above are not orphans; only drop ids that are still gone
+            List<Long> unknown = snapshots.keySet().stream().filter(id -> !current.containsKey(id)).toList();
+            int orphaned = 0;
+            if (!unknown.isEmpty()) {
+                Set<Long> existing = new HashSet<>(unknown.size());
+                for (List<Long> chunk : QueryUtils.inChunks(unknown)) {
+                    existing.addAll(transactionTemplate.execute(status -> choreRepository.findExistingIds(chunk)));
+                }
+                for (Long id : unknown) {
+                    if (!existing.contains(id) && remove(id)) {
+                        orphaned++;
+                    }
+                }
+            }
+
+            ConsistencyReport report = new ConsistencyReport(current.size(), missing, stale, orphaned);
+            if (report.repaired() > 0) {
+                repairs.addAndGet(report.repaired());
+                LOG.warn("Read model was inconsistent with the database: {} missing, {} stale, {} orphaned chores",
+                        missing, stale, orphaned);
+            } else {
+                LOG.debug("Read model consistent with the database ({} chores)", current.size());
+            }
+            return report;
+        } catch (Exception e) {
+            LOG.error("Read model consistency check failed", e);
+            return null;
+        }
+    }
+
+    /**
+     * Get a page of chores matching the filter, with the same order and cursors as
+     * {@link ChoreService#findChores}.
+     *
+     * @param filter the filter; null fields are not restricted
+     * @param sort   the sort order
+     * @param after  the cursor returned with the previous page, or null for the first page
+     * @param limit  the maximum number of chores, or {@link ChoreService#UNPAGED} for all
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is invalid or belongs to another sort order
+     */
+    public ChoreDTOPage findChores(ChoreService.ChoreFilter filter, ChoreSort sort, String after, int limit) {
+        ChoreCursor cursor = after != null ? ChoreCursor.decode(after) : null;
+        if (cursor != null && !cursor.sort().equals(sort)) {
+            throw new IllegalArgumentException("Cursor does not belong to sort '" + sort + "'");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Comparator<ChoreSnapshot> order = order(sort);
+        Predicate<ChoreSnapshot> matches = matches(filter, now);
+        if (cursor != null) {
+            ChoreSnapshot position = ChoreSnapshot.position(cursor.nextDueDate(), cursor.id());
+            matches = matches.and(snapshot -> order.compare(snapshot, position) > 0);
+        }
+        List<ChoreSnapshot> selected = candidates(filter, now).stream()
+                .filter(matches)
+                .sorted(order)
+                .limit(limit + 1L)
+                .toList();
+
+        String nextCursor = null;
+        if (selected.size() > limit) {
+            selected = selected.subList(0, limit);
+            ChoreSnapshot last = selected.get(limit - 1);
+            LocalDateTime lastDueDate = sort.property() == ChoreSort.Property.NEXT_DUE_DATE ? last.nextDueDate() : null;
+            nextCursor = new ChoreCursor(sort, lastDueDate, last.id()).encode();
+        }
+        return new ChoreDTOPage(selected.stream().map(snapshot -> snapshot.toDTO(now)).toList(), nextCursor);
+    }
+
+    /**
+     * Same as {@link ChoreService#getDueChoreDTOs()}.
+     *
+     * @param assignedUserId only chores assigned to this user, or null for all chores
+     * @return the due or overdue chores, ordered by due date
+     */
+    public List<ChoreDTO> getDueChores(Long assignedUserId) {
+        LocalDateTime end = TimeUtils.getStartOfTomorrow();
+        LocalDateTime now = LocalDateTime.now();
+        return dueBefore(assignedUserId, end).stream()
+                .map(snapshot -> snapshot.toDTO(now))
+                .toList();
+    }
+
+    /**
+     * Same as {@link ChoreService#getUpcomingChoreDTOs}: the first {@code limit} entries of the
+     * due date index, so the cost does not depend on the number of chores.
+     *
+     * @param assignedUserId only chores assigned to this user, or null for all chores
+     * @param limit          the maximum number of chores
+     * @return the chores ordered by due date
+     */
+    public List<ChoreDTO> getUpcomingChores(Long assignedUserId, int limit) {
+        DueDateIndex index = assignedUserId == null ? dueIndex : dueIndexByAssignee.get(assignedUserId);
+        if (index == null) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long[] ids = index.nextDue(limit);
+        List<ChoreDTO> chores = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            ChoreSnapshot snapshot = snapshots.get(id);
+            // The chore may have changed since the index was read
+            if (snapshot != null && snapshot.nextDueDate() != null
+                    && (assignedUserId == null || assignedUserId.equals(snapshot.assignedUserId()))) {
+                chores.add(snapshot.toDTO(now));
+            }
+        }
+        return chores;
+    }
+
+    /**
+     * @param choreId the ID of the chore
+     * @return the chore's snapshot, or empty if the model holds no such chore
+     */
+    public Optional<ChoreSnapshot> getChore(Long choreId) {
+        return Optional.ofNullable(snapshots.get(choreId));
+    }
+
+    /**
+     * @return the number of chores held in memory
+     */
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * @return the number of chores overdue right now
+     */
+    public int overdueCount() {
+        return dueIndex.countDueBefore(LocalDateTime.now());
+    }
+
+    /**
+     * @return the number of entries the consistency check had to repair so far
+     */
+    public long repairCount() {
+        return repairs.get();
+    }
+
+    private void reload(Collection<Long> ids) {
+        for (List<Long> chunk : QueryUtils.inChunks(List.copyOf(ids))) {
+            List<ChoreSnapshot> current = transactionTemplate.execute(status -> choreRepository
+                    .findWithAssignedUserByIdIn(chunk)
+                    .stream()
+                    .map(ChoreSnapshot::of)
+                    .toList());
+            Set<Long> found = new HashSet<>(current.size());
+            for (ChoreSnapshot snapshot : current) {
+                found.add(snapshot.id());
+                put(snapshot);
+            }
+            // Ids are never reused, so a chore that is gone was deleted
+            chunk.stream().filter(id -> !found.contains(id)).forEach(this::remove);
+        }
+    }
+
+    /**
+     * Snapshots of the chores due strictly before the given time, earliest first.
+     * @param assignedUserId only chores assigned to this user, or null for all chores
+     */
+    private List<ChoreSnapshot> dueBefore(Long assignedUserId, LocalDateTime time) {
+        DueDateIndex index = assignedUserId == null ? dueIndex : dueIndexByAssignee.get(assignedUserId);
+        if (index == null) {
+            return List.of();
+        }
+        long[] ids = index.dueBefore(time);
+        List<ChoreSnapshot> chores = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            ChoreSnapshot snapshot = snapshots.get(id);
+            // The chore may have changed since the index was read
+            if (snapshot != null && snapshot.nextDueDate() != null && snapshot.nextDueDate().isBefore(time)
+                    && (assignedUserId == null || assignedUserId.equals(snapshot.assignedUserId()))) {
+                chores.add(snapshot);
+            }
+        }
+        return chores;
+    }
+
+    /**
+     * The chores that can match the filter: only those due before its bound if it has one, else all.
+     */
+    private Collection<ChoreSnapshot> candidates(ChoreService.ChoreFilter filter, LocalDateTime now) {
+        LocalDateTime bound = filter.dueTo();
+        if (filter.status() == ChoreStatus.OVERDUE && (bound == null || now.isBefore(bound))) {
+            bound = now;
+        }
+        if (bound == null) {
+            return snapshots.values();
+        }
+        return dueBefore(filter.assignedUser() != null ? filter.assignedUser().getId() : null, bound);
+    }
+
+    /**
+     * Keep the newer of two states; equal versions take the loaded one, e.g. after a user was renamed.
+     * Snapshots of deleted chores are dropped, they were loaded before the deletion committed.
+     *
+     * @return whether the snapshot was applied
+     */
+    private synchronized boolean put(ChoreSnapshot snapshot) {
+        if (tombstones.containsKey(snapshot.id())) {
+            return false;
+        }
+        ChoreSnapshot held = snapshots.get(snapshot.id());
+        if (held != null && snapshot.version() < held.version()) {
+            return false;
+        }
+        snapshots.put(snapshot.id(), snapshot);
+        reindex(held, snapshot);
+        return true;
+    }
+
+    /**
+     * Remove a deleted chore. Ids are never reused, so it is tombstoned even if it was not held yet.
+     *
+     * @return whether the chore was held
+     */
+    private synchronized boolean remove(Long choreId) {
+        tombstones.put(choreId, Instant.now());
+        ChoreSnapshot held = snapshots.remove(choreId);
+        reindex(held, null);
+        return held != null;
+    }
+
+    private synchronized void purgeTombstones() {
+        Instant expired = Instant.now().minus(TOMBSTONE_RETENTION);
+        tombstones.values().removeIf(deletedAt -> deletedAt.isBefore(expired));
+    }
+
+    /**
+     * Replace all snapshots, keeping held ones that are newer and dropping deleted ones, and rebuild
+     * the indexes.
+     */
+    private synchronized void replaceAll(List<ChoreSnapshot> current) {
+        Set<Long> ids = new HashSet<>(current.size());
+        for (ChoreSnapshot snapshot : current) {
+            if (tombstones.containsKey(snapshot.id())) {
+                continue;
+            }
+            ids.add(snapshot.id());
+            snapshots.merge(snapshot.id(), snapshot,
+                    (held, fresh) -> fresh.version() >= held.version() ? fresh : held);
+        }
+        snapshots.keySet().retainAll(ids);
+
+        Map<Long, LocalDateTime> dueDates = new HashMap<>();
+        Map<Long, Map<Long, LocalDateTime>> dueDatesByAssignee = new HashMap<>();
+        for (ChoreSnapshot snapshot : snapshots.values()) {
+            if (snapshot.nextDueDate() == null) {
+                continue;
+            }
+            dueDates.put(snapshot.id(), snapshot.nextDueDate());
+            if (snapshot.assignedUserId() != null) {
+                dueDatesByAssignee.computeIfAbsent(snapshot.assignedUserId(), userId -> new HashMap<>())
+                        .put(snapshot.id(), snapshot.nextDueDate());
+            }
+        }
+        dueIndex.replaceAll(dueDates);
+        dueIndexByAssignee.keySet().retainAll(dueDatesByAssignee.keySet());
+        dueDatesByAssignee.forEach((userId, userDueDates) ->
+                dueIndexByAssignee.computeIfAbsent(userId, id -> new DueDateIndex()).replaceAll(userDueDates));
+    }
+
+    /**
+     * Move a chore in the due date indexes from its previous to its new state (null if absent).
+     */
+    private void reindex(ChoreSnapshot before, ChoreSnapshot after) {
+        if (before != null && after != null && Objects.equals(before.nextDueDate(), after.nextDueDate())
+                && Objects.equals(before.assignedUserId(), after.assignedUserId())) {
+            return;
+        }
+        if (before != null && before.nextDueDate() != null) {
+            dueIndex.remove(before.id(), before.nextDueDate());
+            if (before.assignedUserId() != null) {
+                dueIndexByAssignee.get(before.assignedUserId()).remove(before.id(), before.nextDueDate());
+            }
+        }
+        if (after != null && after.nextDueDate() != null) {
+            dueIndex.add(after.id(), after.nextDueDate());
+            if (after.assignedUserId() != null) {
+                dueIndexByAssignee.computeIfAbsent(after.assignedUserId(), userId -> new DueDateIndex())
+                        .add(after.id(), after.nextDueDate());
+            }
+        }
+    }
+
+    private static Predicate<ChoreSnapshot> matches(ChoreService.ChoreFilter filter, LocalDateTime now) {
+        Predicate<ChoreSnapshot> matches = snapshot -> true;
+        if (filter.assignedUser() != null) {
+            Long userId = filter.assignedUser().getId();
+            matches = matches.and(snapshot -> userId.equals(snapshot.assignedUserId()));
+        }
+        if (filter.recurrenceType() != null) {
+            matches = matches.and(snapshot -> snapshot.recurrenceType() == filter.recurrenceType());
+        }
+        if (filter.status() != null) {
+            matches = matches.and(snapshot -> snapshot.status(now) == filter.status());
+        }
+        if (filter.dueFrom() != null) {
+            matches = matches.and(snapshot -> snapshot.nextDueDate() != null
+                    && !snapshot.nextDueDate().isBefore(filter.dueFrom()));
+        }
+        if (filter.dueTo() != null) {
+            matches = matches.and(snapshot -> snapshot.nextDueDate() != null
+                    && snapshot.nextDueDate().isBefore(filter.dueTo()));
+        }
+        return matches;
+    }
+
+    /**
+     * The list order: by id, or by (nextDueDate, id) with chores without a due date last.
+     */
+    private static Comparator<ChoreSnapshot> order(ChoreSort sort) {
+        Comparator<ChoreSnapshot> byId = Comparator.comparing(ChoreSnapshot::id);
+        if (sort.descending()) {
+            byId = byId.reversed();
+        }
+        if (sort.property() == ChoreSort.Property.ID) {
+            return byId;
+        }
+        Comparator<LocalDateTime> dueDates = sort.descending()
+                ? Comparator.reverseOrder()
+                : Comparator.naturalOrder();
+        return Comparator.comparing(ChoreSnapshot::nextDueDate, Comparator.nullsLast(dueDates)).thenComparing(byId);
+    }
+
+    /**
+     * Immutable state of one chore as served to API consumers.
+     */
+    public record ChoreSnapshot(Long id, String name, String description, RecurrenceType recurrenceType,
+            String recurrencePattern, Long assignedUserId, String assignedUsername, LocalDateTime createdDate,
+            LocalDateTime lastCompletedDate, LocalDateTime nextDueDate, long version) {
+
+        static ChoreSnapshot of(Chore chore) {
+            return new ChoreSnapshot(
+                    chore.getId(),
+                    chore.getName(),
+                    chore.getDescription(),
+                    chore.getRecurrenceType(),
+                    chore.getRecurrencePattern(),
+                    chore.getAssignedUser() != null ? chore.getAssignedUser().getId() : null,
+                    chore.getAssignedUser() != null ? chore.getAssignedUser().getName() : null,
+                    chore.getCreatedDate(),
+                    chore.getLastCompletedDate(),
+                    chore.getNextDueDate(),
+                    Objects.requireNonNullElse(chore.getVersion(), 0L));
+        }
+
+        /**
+         * A position in the list order, for comparing chores against a cursor.
+         */
+        static ChoreSnapshot position(LocalDateTime nextDueDate, Long id) {
+            return new ChoreSnapshot(id, null, null, null, null, null, null, null, null, nextDueDate, 0);
+        }
+
+        public ChoreStatus status(LocalDateTime now) {
+            return ChoreStatePublisher.computeStatus(lastCompletedDate, nextDueDate, now);
+        }
+
+        public ChoreDTO toDTO(LocalDateTime now) {
+            return new ChoreDTO(id, name, description, recurrenceType, recurrencePattern, assignedUsername,
+                    createdDate, lastCompletedDate, nextDueDate, status(now));
+        }
+    }
+
+    /**
+     * A page of chores served from the read model.
+     * @param chores     the chores in the requested order
+     * @param nextCursor the cursor for the next page, or null if this is the last page
+     */
+    public record ChoreDTOPage(List<ChoreDTO> chores, String nextCursor) {}
+
+    /**
+     * Result of a consistency check.
+     * @param checked   the number of chores in the database
+     * @param missing   chores that were not in the model
+     * @param stale     chores whose snapshot differed from the database
+     * @param orphaned  snapshots of chores that no longer exist
+     */
+    public record ConsistencyReport(int checked, int missing, int stale, int orphaned) {
+
+        public int repaired() {
+            return missing + stale + orphaned;
+        }
+    }
+}
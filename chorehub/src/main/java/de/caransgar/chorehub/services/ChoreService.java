@@ -1,24 +1,53 @@
 package de.caransgar.chorehub.services;
 
+import de.caransgar.chorehub.dto.ChoreCursor;
 import de.caransgar.chorehub.dto.ChoreDTO;
 
+import de.caransgar.chorehub.dto.ChoreHistoryDTO;
+import de.caransgar.chorehub.dto.ChoreSort;
 import de.caransgar.chorehub.dto.CreateChoreRequest;
+import de.caransgar.chorehub.dto.HistoryCursor;
 import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreHistory;
+import de.caransgar.chorehub.entity.ChoreStatus;
+import de.caransgar.chorehub.entity.RecurrenceType;
 import de.caransgar.chorehub.entity.User;
 import de.caransgar.chorehub.mqtt.ChoreDiscoveryService;
 import de.caransgar.chorehub.mqtt.ChoreStatePublisher;
+import de.caransgar.chorehub.mqtt.ChoreTransitionScheduler;
+import de.caransgar.chorehub.mqtt.MqttBatchPublisher;
+import de.caransgar.chorehub.recurrence.RecurrenceRuleRegistry;
+import de.caransgar.chorehub.repository.ChoreHistoryRepository;
 import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.ChoreSpecifications;
 import de.caransgar.chorehub.utils.TimeUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.support.CronExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -26,28 +55,112 @@ public class ChoreService {
 
     private static final Logger LOG = LoggerFactory.getLogger(ChoreService.class);
 
+    /** Maximum number of chores completed by one bulk completion. */
+    public static final int MAX_BULK_COMPLETION = 500;
+    /** Maximum length of completion notes, as in chore_history.notes. */
+    public static final int MAX_NOTES_LENGTH = 500;
+    /** Page size of {@link #findChores} that returns all matching chores on one page. */
+    public static final int UNPAGED = Integer.MAX_VALUE;
+    /** Attempts of a completion or update that keeps losing races against concurrent writers. */
+    static final int MAX_ATTEMPTS = 5;
+
     private final ChoreRepository choreRepository;
+    private final ChoreHistoryRepository choreHistoryRepository;
     private final UserService userService;
     private final ChoreDiscoveryService discoveryService;
-    private final ChoreStatePublisher statePublisher;
-
-    public ChoreService(ChoreRepository choreRepository, UserService userService,
-            ChoreDiscoveryService discoveryService, ChoreStatePublisher statePublisher) {
+    private final ChoreTransitionScheduler transitionScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MqttBatchPublisher batchPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChoreService(ChoreRepository choreRepository, ChoreHistoryRepository choreHistoryRepository,
+            UserService userService, ChoreDiscoveryService discoveryService,
+            ChoreTransitionScheduler transitionScheduler, ApplicationEventPublisher eventPublisher,
+            MqttBatchPublisher batchPublisher, PlatformTransactionManager transactionManager) {
         this.choreRepository = choreRepository;
+        this.choreHistoryRepository = choreHistoryRepository;
         this.userService = userService;
         this.discoveryService = discoveryService;
-        this.statePublisher = statePublisher;
+        this.transitionScheduler = transitionScheduler;
+        this.eventPublisher = eventPublisher;
+        this.batchPublisher = batchPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    @Transactional(readOnly = true)
     public List<Chore> getAllChores() {
         return choreRepository.findAll();
     }
 
+    /**
+     * Get a page of chores matching the filter.
+     * Pages are addressed by keyset on the sort property and id, so deep pages cost the same as the first.
+     *
+     * @param filter the filter; null fields are not restricted
+     * @param sort   the sort order
+     * @param after  the cursor returned with the previous page, or null for the first page
+     * @param limit  the maximum number of chores, or {@link #UNPAGED} for all
+     * @return the page
+     * @throws IllegalArgumentException if the cursor is invalid or belongs to another sort order
+     */
+    @Transactional(readOnly = true)
+    public ChorePage findChores(ChoreFilter filter, ChoreSort sort, String after, int limit) {
+        ChoreCursor cursor = after != null ? ChoreCursor.decode(after) : null;
+        if (cursor != null && !cursor.sort().equals(sort)) {
+            throw new IllegalArgumentException("Cursor does not belong to sort '" + sort + "'");
+        }
+
+        Specification<Chore> base = filter.toSpecification(LocalDateTime.now());
+        Sort.Direction direction = sort.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        // One extra row tells whether there is a next page
+        int fetch = limit == UNPAGED ? UNPAGED : limit + 1;
+        List<Chore> chores = new ArrayList<>();
+
+        if (sort.property() == ChoreSort.Property.ID) {
+            Specification<Chore> spec = cursor != null
+                    ? base.and(ChoreSpecifications.idAfter(cursor.id(), sort.descending()))
+                    : base;
+            chores.addAll(findChores(spec, Sort.by(direction, "id"), fetch));
+        } else {
+            // Chores with a due date in (nextDueDate, id) order, then the ones without one by id
+            if (cursor == null || cursor.nextDueDate() != null) {
+                Specification<Chore> spec = base.and(ChoreSpecifications.hasDueDate(true));
+                if (cursor != null) {
+                    spec = spec.and(ChoreSpecifications.dueAfter(cursor.nextDueDate(), cursor.id(), sort.descending()));
+                }
+                chores.addAll(findChores(spec, Sort.by(direction, "nextDueDate", "id"), fetch));
+            }
+            if (chores.size() < fetch) {
+                Specification<Chore> spec = base.and(ChoreSpecifications.hasDueDate(false));
+                if (cursor != null && cursor.nextDueDate() == null) {
+                    spec = spec.and(ChoreSpecifications.idAfter(cursor.id(), sort.descending()));
+                }
+                chores.addAll(findChores(spec, Sort.by(direction, "id"), fetch - chores.size()));
+            }
+        }
+
+        if (chores.size() <= limit) {
+            return new ChorePage(chores, null);
+        }
+        List<Chore> page = List.copyOf(chores.subList(0, limit));
+        Chore last = page.get(limit - 1);
+        LocalDateTime lastDueDate = sort.property() == ChoreSort.Property.NEXT_DUE_DATE ? last.getNextDueDate() : null;
+        return new ChorePage(page, new ChoreCursor(sort, lastDueDate, last.getId()).encode());
+    }
+
+    private List<Chore> findChores(Specification<Chore> spec, Sort sort, int limit) {
+        if (limit == UNPAGED) {
+            return choreRepository.findBy(spec, query -> query.sortBy(sort).all());
+        }
+        return choreRepository.findBy(spec, query -> query.sortBy(sort).limit(limit).all());
+    }
+
     /**
      * Provides list of all chores with `nextDueDate` before "tomorrow at 00:00".
      * 
      * @return A list of all due or overdue chores
      */
+    @Transactional(readOnly = true)
     public List<Chore> getDueChores() {
         return choreRepository.findByNextDueDateIsBefore(TimeUtils.getStartOfTomorrow());
     }
@@ -57,14 +170,58 @@ public class ChoreService {
      * 
      * @return A list of all due or overdue chores
      */
+    @Transactional(readOnly = true)
     public List<Chore> getDueChores(User user) {
         return choreRepository.findByNextDueDateIsBeforeAndAssignedUser(TimeUtils.getStartOfTomorrow(), user);
     }
 
+    /**
+     * Same as {@link #getDueChores()}, projected to DTOs in a single query.
+     *
+     * @return the due or overdue chores, ordered by due date
+     */
+    @Transactional(readOnly = true)
+    public List<ChoreDTO> getDueChoreDTOs() {
+        return withStatus(choreRepository.findDueBeforeAsDTO(TimeUtils.getStartOfTomorrow()));
+    }
+
+    /**
+     * Same as {@link #getDueChores(User)}, projected to DTOs in a single query.
+     *
+     * @return the user's due or overdue chores, ordered by due date
+     */
+    @Transactional(readOnly = true)
+    public List<ChoreDTO> getDueChoreDTOs(User user) {
+        return withStatus(choreRepository.findDueBeforeByAssignedUserAsDTO(TimeUtils.getStartOfTomorrow(), user));
+    }
+
+    /**
+     * The chores due first, overdue ones included; chores without a due date are left out.
+     * Reads only the first {@code limit} rows of the due date index.
+     *
+     * @param user  only chores assigned to this user, or null for all chores
+     * @param limit the maximum number of chores
+     * @return the chores ordered by due date
+     */
+    @Transactional(readOnly = true)
+    public List<ChoreDTO> getUpcomingChoreDTOs(User user, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return withStatus(user != null
+                ? choreRepository.findUpcomingByAssignedUserAsDTO(user, page)
+                : choreRepository.findUpcomingAsDTO(page));
+    }
+
+    private static List<ChoreDTO> withStatus(List<ChoreDTO> chores) {
+        LocalDateTime now = LocalDateTime.now();
+        chores.forEach(chore -> chore.setStatus(
+                ChoreStatePublisher.computeStatus(chore.getLastCompletedDate(), chore.getNextDueDate(), now)));
+        return chores;
+    }
+
     /**
      * Creates a new chore with business logic validation.
      * Validates recurrence patterns, user existence, and chore parameters.
-     * Publishes MQTT discovery and state after creation.
+     * Publishes MQTT discovery and state once the creation commits.
      *
      * @param request the CreateChoreRequest containing chore details
      * @return the created ChoreDTO
@@ -93,13 +250,10 @@ public class ChoreService {
         // Save and return
         Chore savedChore = choreRepository.save(chore);
 
-        // Publish MQTT discovery and state
-        try {
-            discoveryService.publishDiscoveryForChore(savedChore);
-            statePublisher.publishStatusAndAttributes(savedChore);
-        } catch (Exception e) {
-            LOG.error("Failed to publish MQTT for chore {}", savedChore.getId(), e);
-        }
+        // Publish MQTT discovery and state after commit, nothing if the creation rolls back
+        batchPublisher.publishCreated(List.of(savedChore));
+        transitionScheduler.track(savedChore);
+        eventPublisher.publishEvent(ChoresChangedEvent.changed(savedChore.getId()));
 
         return choreToDTO(savedChore);
     }
@@ -120,16 +274,20 @@ public class ChoreService {
                 chore.getAssignedUser() != null ? chore.getAssignedUser().getName() : null,
                 chore.getCreatedDate(),
                 chore.getLastCompletedDate(),
-                chore.getNextDueDate());
+                chore.getNextDueDate(),
+                ChoreStatePublisher.computeStatus(chore.getLastCompletedDate(), chore.getNextDueDate(),
+                        LocalDateTime.now()));
     }
 
     /**
      * Validates a chore creation request for business logic compliance.
      * 
+     * Shared with the bulk import, which must apply exactly the same rules.
+     * 
      * @param request the CreateChoreRequest to validate
      * @throws IllegalArgumentException if any validation fails
      */
-    private void validateChoreCreation(CreateChoreRequest request) {
+    static void validateChoreCreation(CreateChoreRequest request) {
         // Validate name
         if (request.getName() == null || request.getName().isBlank()) {
             throw new IllegalArgumentException("Chore name cannot be empty");
@@ -138,46 +296,59 @@ public class ChoreService {
             throw new IllegalArgumentException("Chore name cannot exceed 255 characters");
         }
 
+        validateRecurrence(request.getRecurrenceType(), request.getRecurrencePattern());
+
+        // Validate description length if provided
+        if (request.getDescription() != null && request.getDescription().length() > 1000) {
+            throw new IllegalArgumentException("Chore description cannot exceed 1000 characters");
+        }
+    }
+
+    /**
+     * Validates a recurrence type and the pattern it requires.
+     * Shared with the bulk mutation, which changes the recurrence of many chores at once.
+     *
+     * @param recurrenceType    the recurrence type
+     * @param recurrencePattern the cron or duration pattern
+     * @throws IllegalArgumentException if the type is missing or the pattern does not fit it
+     */
+    static void validateRecurrence(RecurrenceType recurrenceType, String recurrencePattern) {
         // Validate recurrence type
-        if (request.getRecurrenceType() == null) {
+        if (recurrenceType == null) {
             throw new IllegalArgumentException("Recurrence type is required");
         }
 
         // Validate recurrence pattern based on type
-        switch (request.getRecurrenceType()) {
+        switch (recurrenceType) {
             case FIXED_SCHEDULE:
-                validateCronPattern(request.getRecurrencePattern());
+                validateCronPattern(recurrencePattern);
                 break;
             case AFTER_COMPLETION:
-                validateDurationPattern(request.getRecurrencePattern());
+                validateDurationPattern(recurrencePattern);
                 break;
             case ONETIME:
-                if (request.getRecurrencePattern() != null && !request.getRecurrencePattern().isBlank()) {
+                if (recurrencePattern != null && !recurrencePattern.isBlank()) {
                     throw new IllegalArgumentException(
                             "Recurrence pattern should not be set for ONETIME chores");
                 }
                 break;
         }
-
-        // Validate description length if provided
-        if (request.getDescription() != null && request.getDescription().length() > 1000) {
-            throw new IllegalArgumentException("Chore description cannot exceed 1000 characters");
-        }
     }
 
     /**
      * Validates that a string is a valid cron expression.
+     * The compiled rule stays in the {@link RecurrenceRuleRegistry} for the entity to reuse.
      *
      * @param pattern the pattern to validate
      * @throws IllegalArgumentException if pattern is not a valid cron expression
      */
-    private void validateCronPattern(String pattern) {
+    private static void validateCronPattern(String pattern) {
         if (pattern == null || pattern.isBlank()) {
             throw new IllegalArgumentException(
                     "Recurrence pattern is required for FIXED_SCHEDULE chores");
         }
         try {
-            CronExpression.parse(pattern);
+            RecurrenceRuleRegistry.cron(pattern);
         } catch (Exception e) {
             throw new IllegalArgumentException(
                     "Invalid cron pattern: " + e.getMessage());
@@ -190,48 +361,220 @@ public class ChoreService {
      * @param pattern the pattern to validate
      * @throws IllegalArgumentException if pattern is not a valid duration
      */
-    private void validateDurationPattern(String pattern) {
+    private static void validateDurationPattern(String pattern) {
         if (pattern == null || pattern.isBlank()) {
             throw new IllegalArgumentException(
                     "Recurrence pattern is required for AFTER_COMPLETION chores");
         }
         try {
-            Duration.parse(pattern);
+            RecurrenceRuleRegistry.duration(pattern);
         } catch (Exception e) {
             throw new IllegalArgumentException(
                     "Invalid duration pattern: " + e.getMessage());
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Chore> getUsersChores(User user) {
         return choreRepository.findByAssignedUser(user);
     }
 
+    // Not read-only: callers look a chore up right before changing it, so read it from the primary
     public Optional<Chore> getChoreById(Long id) {
         return choreRepository.findById(id);
     }
 
+    /**
+     * Get a page of a chore's completions, newest first.
+     * Pages are addressed by keyset on (completedDate, id), so deep pages cost the same as the first.
+     *
+     * @param choreId the chore id
+     * @param after   the cursor returned with the previous page, or null for the newest completions
+     * @param limit   the maximum number of entries
+     * @return the page, or empty if the chore does not exist
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public Optional<HistoryPage> getHistory(Long choreId, String after, int limit) {
+        if (!choreRepository.existsById(choreId)) {
+            return Optional.empty();
+        }
+
+        // One extra row tells whether there is a next page
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<ChoreHistoryDTO> entries;
+        if (after == null) {
+            entries = choreHistoryRepository.findLatest(choreId, page);
+        } else {
+            HistoryCursor cursor = HistoryCursor.decode(after);
+            entries = choreHistoryRepository.findLatestBefore(choreId, cursor.completedDate(), cursor.id(), page);
+        }
+
+        if (entries.size() <= limit) {
+            return Optional.of(new HistoryPage(entries, null));
+        }
+        List<ChoreHistoryDTO> pageEntries = entries.subList(0, limit);
+        ChoreHistoryDTO last = pageEntries.get(limit - 1);
+        String nextCursor = new HistoryCursor(last.getCompletedDate(), last.getId()).encode();
+        return Optional.of(new HistoryPage(List.copyOf(pageEntries), nextCursor));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<Chore> markChoreAsDone(Long id) {
-        return getChoreById(id).map(this::markChoreAsDone);
+        return markChoreAsDone(id, null);
+    }
+
+    /**
+     * Mark a chore as done, retrying if a concurrent completion or edit of the same chore
+     * committed first. Chores are versioned, so no completion is lost and no row locks are held
+     * while the completion is computed.
+     *
+     * @param id              the chore to complete
+     * @param expectedVersion the version the caller's request is based on, or null for any version
+     * @return the completed chore, or empty if it does not exist
+     * @throws ChoreVersionMismatchException if the chore is not at the expected version
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<Chore> markChoreAsDone(Long id, Long expectedVersion) {
+        // The assigned user is part of the published MQTT attributes
+        return retryOnConflict("chore " + id, () -> choreRepository.findWithAssignedUserById(id).map(chore -> {
+            checkVersion(chore, expectedVersion);
+            return markChoreAsDone(chore);
+        }));
+    }
+
+    /**
+     * Change a chore, retrying with a freshly loaded chore if a concurrent write committed first.
+     *
+     * @param id              the chore to change
+     * @param expectedVersion the version the caller's request is based on, or null for any version
+     * @param changes         applied to the loaded chore; may run more than once
+     * @return the saved chore, or empty if it does not exist
+     * @throws ChoreVersionMismatchException if the chore is not at the expected version
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<Chore> updateChore(Long id, Long expectedVersion, Consumer<Chore> changes) {
+        return retryOnConflict("chore " + id, () -> getChoreById(id).map(chore -> {
+            checkVersion(chore, expectedVersion);
+            changes.accept(chore);
+            return saveChore(chore);
+        }));
+    }
+
+    private static void checkVersion(Chore chore, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(chore.getVersion())) {
+            throw new ChoreVersionMismatchException(chore.getId(), expectedVersion, chore.getVersion());
+        }
     }
 
+    /**
+     * Run the work in its own transaction, repeating it with a short random backoff when it
+     * conflicts with a concurrent transaction. Within a caller's transaction the work runs once,
+     * since a conflict rolls back the caller's transaction as a whole.
+     */
+    private <T> T retryOnConflict(String subject, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                LOG.debug("Concurrent update of {}, retrying (attempt {} of {})",
+                        subject, attempt + 1, MAX_ATTEMPTS);
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(1, 5L * attempt + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Mark a chore as done.
+     * The history entry is inserted directly, so the chore's history collection is never loaded.
+     * MQTT state is published after commit, so a retried or rolled back completion publishes nothing.
+     *
+     * @param chore the chore to complete
+     * @return the saved chore with updated completion and due dates
+     */
     public Chore markChoreAsDone(Chore chore) {
         // Record the completion with history entry
-        chore.recordCompletion();
+        ChoreHistory historyEntry = chore.recordCompletion();
+        choreHistoryRepository.save(historyEntry);
         Chore saved = saveChore(chore);
 
-        // Publish updated MQTT state
-        try {
-            statePublisher.publishStatusAndAttributes(saved);
-        } catch (Exception e) {
-            LOG.error("Failed to publish MQTT state for chore {}", saved.getId(), e);
+        batchPublisher.publishState(List.of(saved));
+        return saved;
+    }
+
+    /**
+     * Mark many chores as done in one transaction.
+     * All chores are loaded with one query and their history entries are inserted in JDBC batches.
+     * MQTT state is published after commit in paced bursts, like a bulk import.
+     * If a concurrent write to one of the chores committed first, the whole completion is retried.
+     *
+     * @param ids   the chores to complete; duplicates are completed once
+     * @param notes optional notes stored with every completion
+     * @return the completed chores in request order and the ids that were not found
+     * @throws IllegalArgumentException if no or too many ids are given, or the notes are too long
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BulkCompletionResult markChoresAsDone(List<Long> ids, String notes) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one chore id is required");
+        }
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("Chore ids cannot be null");
+        }
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > MAX_BULK_COMPLETION) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_COMPLETION + " chores can be completed at once");
         }
+        if (notes != null && notes.length() > MAX_NOTES_LENGTH) {
+            throw new IllegalArgumentException("Notes cannot exceed " + MAX_NOTES_LENGTH + " characters");
+        }
+        return retryOnConflict(uniqueIds.size() + " chores", () -> completeChores(uniqueIds, notes));
+    }
 
-        return saved;
+    private BulkCompletionResult completeChores(Set<Long> uniqueIds, String notes) {
+        Map<Long, Chore> found = choreRepository.findWithAssignedUserByIdIn(uniqueIds).stream()
+                .collect(Collectors.toMap(Chore::getId, Function.identity()));
+        List<Chore> completed = new ArrayList<>(found.size());
+        List<ChoreHistory> historyEntries = new ArrayList<>(found.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            Chore chore = found.get(id);
+            if (chore == null) {
+                notFound.add(id);
+                continue;
+            }
+            historyEntries.add(chore.recordCompletion(notes));
+            completed.add(chore);
+        }
+        if (completed.isEmpty()) {
+            return new BulkCompletionResult(List.of(), notFound);
+        }
+
+        choreHistoryRepository.saveAll(historyEntries);
+        completed.forEach(transitionScheduler::track);
+        eventPublisher.publishEvent(ChoresChangedEvent.changed(completed.stream().map(Chore::getId).toList()));
+        batchPublisher.publishState(completed);
+
+        LOG.info("Marked {} chores as done ({} not found)", completed.size(), notFound.size());
+        return new BulkCompletionResult(List.copyOf(completed), List.copyOf(notFound));
     }
 
     public Chore saveChore(Chore chore) {
-        return choreRepository.save(chore);
+        Chore saved = choreRepository.save(chore);
+        transitionScheduler.track(saved);
+        eventPublisher.publishEvent(ChoresChangedEvent.changed(saved.getId()));
+        return saved;
     }
 
     public void deleteChore(Long id) {
@@ -240,11 +583,68 @@ public class ChoreService {
         } catch (Exception e) {
             LOG.error("Failed to remove MQTT discovery for chore {}", id, e);
         }
+        transitionScheduler.untrack(id);
         choreRepository.deleteById(id);
+        eventPublisher.publishEvent(ChoresChangedEvent.deleted(id));
     }
 
+    @Transactional(readOnly = true)
     public List<Chore> getChoresByUser(User user) {
         return choreRepository.findByAssignedUser(user);
     }
 
-}
\ No newline at end of file
+    /**
+     * Result of a bulk completion.
+     * @param completed the completed chores, in request order
+     * @param notFound  the requested ids without a chore
+     */
+    public record BulkCompletionResult(List<Chore> completed, List<Long> notFound) {}
+
+    /**
+     * A page of chore history.
+     * @param entries    the completions, newest first
+     * @param nextCursor the cursor for the next page, or null if this is the last page
+     */
+    public record HistoryPage(List<ChoreHistoryDTO> entries, String nextCursor) {}
+
+    /**
+     * Filter of the chore list. Null fields are not restricted.
+     * @param assignedUser   only chores assigned to this user
+     * @param recurrenceType only chores with this recurrence type
+     * @param status         only chores currently in this status
+     * @param dueFrom        only chores due at or after this time
+     * @param dueTo          only chores due before this time
+     */
+    public record ChoreFilter(User assignedUser, RecurrenceType recurrenceType, ChoreStatus status,
+            LocalDateTime dueFrom, LocalDateTime dueTo) {
+
+        public static final ChoreFilter NONE = new ChoreFilter(null, null, null, null, null);
+
+        Specification<Chore> toSpecification(LocalDateTime now) {
+            Specification<Chore> spec = ChoreSpecifications.fetchAssignedUser();
+            if (assignedUser != null) {
+                spec = spec.and(ChoreSpecifications.assignedTo(assignedUser));
+            }
+            if (recurrenceType != null) {
+                spec = spec.and(ChoreSpecifications.hasRecurrenceType(recurrenceType));
+            }
+            if (status != null) {
+                spec = spec.and(ChoreSpecifications.hasStatus(status, now));
+            }
+            if (dueFrom != null) {
+                spec = spec.and(ChoreSpecifications.dueAtOrAfter(dueFrom));
+            }
+            if (dueTo != null) {
+                spec = spec.and(ChoreSpecifications.dueBefore(dueTo));
+            }
+            return spec;
+        }
+    }
+
+    /**
+     * A page of chores.
+     * @param chores     the chores in the requested order
+     * @param nextCursor the cursor for the next page, or null if this is the last page
+     */
+    public record ChorePage(List<Chore> chores, String nextCursor) {}
+}
@@ -0,0 +1,31 @@
+package de.caransgar.chorehub.services;
+
+/**
+ * Thrown when a chore is no longer at the version the caller based its change on,
+ * e.g. an {@code If-Match} header that does not match the current chore.
+ */
+public class ChoreVersionMismatchException extends RuntimeException {
+
+    private final Long choreId;
+    private final Long expectedVersion;
+    private final Long actualVersion;
+
+    public ChoreVersionMismatchException(Long choreId, Long expectedVersion, Long actualVersion) {
+        super("Chore with id '" + choreId + "' is at version " + actualVersion + ", not " + expectedVersion);
+        this.choreId = choreId;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public Long getChoreId() {
+        return choreId;
+    }
+
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public Long getActualVersion() {
+        return actualVersion;
+    }
+}
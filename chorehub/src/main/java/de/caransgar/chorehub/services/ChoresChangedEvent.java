@@ -0,0 +1,43 @@
+package de.caransgar.chorehub.services;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Application event published whenever chores are created, modified or deleted.
+ * In-memory views of chore data (caches, feeds, read models) listen to it to stay consistent.
+ *
+ * @param changedIds ids of created or modified chores
+ * @param deletedIds ids of deleted chores
+ * @param all        whether the change may affect any chore (e.g. a user was renamed);
+ *                   listeners should then drop or reload everything
+ */
+public record ChoresChangedEvent(Set<Long> changedIds, Set<Long> deletedIds, boolean all) {
+
+    public static ChoresChangedEvent changed(Long choreId) {
+        return new ChoresChangedEvent(Set.of(choreId), Set.of(), false);
+    }
+
+    public static ChoresChangedEvent changed(Collection<Long> choreIds) {
+        return new ChoresChangedEvent(Set.copyOf(choreIds), Set.of(), false);
+    }
+
+    public static ChoresChangedEvent deleted(Long choreId) {
+        return new ChoresChangedEvent(Set.of(), Set.of(choreId), false);
+    }
+
+    public static ChoresChangedEvent deleted(Collection<Long> choreIds) {
+        return new ChoresChangedEvent(Set.of(), Set.copyOf(choreIds), false);
+    }
+
+    public static ChoresChangedEvent allChanged() {
+        return new ChoresChangedEvent(Set.of(), Set.of(), true);
+    }
+
+    /**
+     * @return whether the given chore is affected by this change
+     */
+    public boolean affects(Long choreId) {
+        return all || changedIds.contains(choreId) || deletedIds.contains(choreId);
+    }
+}
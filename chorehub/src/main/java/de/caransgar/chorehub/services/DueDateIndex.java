@@ -0,0 +1,169 @@
+package de.caransgar.chorehub.services;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chore ids sorted by due date, for range queries by binary search: due before a time,
+ * overdue now, the next k due.
+ *
+ * Entries are kept in parallel primitive arrays (epoch second, nano of second, id), ordered by
+ * due date and then id. Due dates are floating local times and converted at UTC, which only
+ * has to preserve their order. The arrays are immutable once published: every change copies
+ * them under the index's lock and swaps them in, so queries never lock and never see a
+ * half-applied change. Changes cost O(n), which is fine for a household's chores and rare
+ * writes; {@link #replaceAll} rebuilds the index in one sort.
+ */
+public class DueDateIndex {
+
+    private volatile Entries entries = Entries.EMPTY;
+
+    /**
+     * Add a chore. Each chore may only be added once, with its current due date.
+     */
+    public synchronized void add(long choreId, LocalDateTime nextDueDate) {
+        Entries current = entries;
+        long seconds = seconds(nextDueDate);
+        int nanos = nextDueDate.getNano();
+        int at = lowerBound(current, seconds, nanos, choreId);
+        int size = current.size();
+
+        long[] newSeconds = new long[size + 1];
+        int[] newNanos = new int[size + 1];
+        long[] newIds = new long[size + 1];
+        copyAround(current, at, newSeconds, newNanos, newIds, at, at + 1, size - at);
+        newSeconds[at] = seconds;
+        newNanos[at] = nanos;
+        newIds[at] = choreId;
+        entries = new Entries(newSeconds, newNanos, newIds);
+    }
+
+    /**
+     * Remove a chore, given the due date it was added with.
+     * @return whether the chore was in the index
+     */
+    public synchronized boolean remove(long choreId, LocalDateTime nextDueDate) {
+        Entries current = entries;
+        long seconds = seconds(nextDueDate);
+        int nanos = nextDueDate.getNano();
+        int at = lowerBound(current, seconds, nanos, choreId);
+        int size = current.size();
+        if (at == size || current.ids[at] != choreId || current.seconds[at] != seconds || current.nanos[at] != nanos) {
+            return false;
+        }
+
+        long[] newSeconds = new long[size - 1];
+        int[] newNanos = new int[size - 1];
+        long[] newIds = new long[size - 1];
+        copyAround(current, at, newSeconds, newNanos, newIds, at + 1, at, size - at - 1);
+        entries = new Entries(newSeconds, newNanos, newIds);
+        return true;
+    }
+
+    /**
+     * Replace all entries.
+     * @param nextDueDates the due date of every chore that has one, by chore id
+     */
+    public synchronized void replaceAll(Map<Long, LocalDateTime> nextDueDates) {
+        List<Map.Entry<Long, LocalDateTime>> sorted = nextDueDates.entrySet().stream()
+                .sorted(Map.Entry.<Long, LocalDateTime>comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())))
+                .toList();
+        int size = sorted.size();
+        long[] newSeconds = new long[size];
+        int[] newNanos = new int[size];
+        long[] newIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            LocalDateTime due = sorted.get(i).getValue();
+            newSeconds[i] = seconds(due);
+            newNanos[i] = due.getNano();
+            newIds[i] = sorted.get(i).getKey();
+        }
+        entries = new Entries(newSeconds, newNanos, newIds);
+    }
+
+    /**
+     * @return the ids of chores due strictly before the given time, earliest first
+     */
+    public long[] dueBefore(LocalDateTime time) {
+        Entries current = entries;
+        return Arrays.copyOf(current.ids, lowerBound(current, seconds(time), time.getNano(), Long.MIN_VALUE));
+    }
+
+    /**
+     * @return the number of chores due strictly before the given time
+     */
+    public int countDueBefore(LocalDateTime time) {
+        Entries current = entries;
+        return lowerBound(current, seconds(time), time.getNano(), Long.MIN_VALUE);
+    }
+
+    /**
+     * @return the ids of the (at most) k chores due first, overdue ones included, earliest first
+     */
+    public long[] nextDue(int k) {
+        Entries current = entries;
+        return Arrays.copyOf(current.ids, Math.min(Math.max(k, 0), current.size()));
+    }
+
+    /**
+     * @return the number of chores in the index
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Index of the first entry at or after (seconds, nanos, id).
+     */
+    private static int lowerBound(Entries entries, long seconds, int nanos, long id) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(entries.seconds[mid], seconds);
+            if (cmp == 0) {
+                cmp = Integer.compare(entries.nanos[mid], nanos);
+            }
+            if (cmp == 0) {
+                cmp = Long.compare(entries.ids[mid], id);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Copy everything before {@code at} unchanged and the {@code tail} entries from {@code from} to {@code to}.
+     */
+    private static void copyAround(Entries source, int at, long[] seconds, int[] nanos, long[] ids,
+            int from, int to, int tail) {
+        System.arraycopy(source.seconds, 0, seconds, 0, at);
+        System.arraycopy(source.nanos, 0, nanos, 0, at);
+        System.arraycopy(source.ids, 0, ids, 0, at);
+        System.arraycopy(source.seconds, from, seconds, to, tail);
+        System.arraycopy(source.nanos, from, nanos, to, tail);
+        System.arraycopy(source.ids, from, ids, to, tail);
+    }
+
+    private static long seconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private record Entries(long[] seconds, int[] nanos, long[] ids) {
+
+        static final Entries EMPTY = new Entries(new long[0], new int[0], new long[0]);
+
+        int size() {
+            return ids.length;
+        }
+    }
+}
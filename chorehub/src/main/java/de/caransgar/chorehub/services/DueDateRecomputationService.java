@@ -0,0 +1,257 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.config.RecomputeConfigProperties;
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.mqtt.ChoreStatePublisher;
+import de.caransgar.chorehub.mqtt.ChoreTransitionScheduler;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.ChoreSchedule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk recomputation of {@code nextDueDate} for all recurring chores,
+ * e.g. after a timezone change, a DST edge or a bulk pattern edit.
+ *
+ * Chores are scanned in id-ordered chunks through a lightweight projection, recomputed in
+ * parallel on a bounded fork-join pool and written back with JDBC batch updates, one
+ * transaction per chunk. Only chores whose due date actually changed get their MQTT state
+ * republished. Unlike the other services this one is not class-level transactional,
+ * since it manages its own per-chunk transactions.
+ */
+@Service
+public class DueDateRecomputationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DueDateRecomputationService.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE chores SET next_due_date = ?, version = version + 1 WHERE id = ? AND next_due_date = ?";
+    private static final String UPDATE_FROM_NULL_SQL =
+            "UPDATE chores SET next_due_date = ?, version = version + 1 WHERE id = ? AND next_due_date IS NULL";
+
+    private final ChoreRepository choreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ChoreStatePublisher statePublisher;
+    private final ChoreTransitionScheduler transitionScheduler;
+    private final RecomputeConfigProperties config;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicReference<RecomputationProgress> progress = new AtomicReference<>();
+
+    public DueDateRecomputationService(ChoreRepository choreRepository, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ChoreStatePublisher statePublisher,
+            ChoreTransitionScheduler transitionScheduler, RecomputeConfigProperties config,
+            ApplicationEventPublisher eventPublisher) {
+        this.choreRepository = choreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.statePublisher = statePublisher;
+        this.transitionScheduler = transitionScheduler;
+        this.config = config;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Recompute the next due date of every recurring chore.
+     * ONETIME chores keep their manually set due date.
+     *
+     * @return the final progress of the run
+     * @throws IllegalStateException if a recomputation is already running
+     */
+    public RecomputationProgress recomputeAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A due date recomputation is already running");
+        }
+
+        Instant startedAt = Instant.now();
+        long processed = 0;
+        List<Long> changedIds = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, config.getParallelism()));
+        try {
+            progress.set(RecomputationProgress.of(true, 0, 0, startedAt));
+            Long lastId = 0L;
+            while (true) {
+                List<ChoreSchedule> chunk = choreRepository.findSchedulesAfter(
+                        lastId, RecurrenceType.ONETIME, PageRequest.of(0, config.getChunkSize()));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                lastId = chunk.get(chunk.size() - 1).id();
+
+                List<DueDateChange> changes = pool.submit(() -> chunk.parallelStream()
+                        .map(DueDateRecomputationService::recompute)
+                        .filter(Objects::nonNull)
+                        .toList()).join();
+                changedIds.addAll(writeChanges(changes));
+
+                processed += chunk.size();
+                RecomputationProgress current = RecomputationProgress.of(true, processed, changedIds.size(), startedAt);
+                progress.set(current);
+                LOG.info("Recomputed due dates for {} chores ({} changed, {} chores/s)",
+                        processed, changedIds.size(), String.format("%.1f", current.choresPerSecond()));
+            }
+
+            if (!changedIds.isEmpty()) {
+                eventPublisher.publishEvent(ChoresChangedEvent.changed(changedIds));
+            }
+            republish(changedIds);
+
+            RecomputationProgress result = RecomputationProgress.of(false, processed, changedIds.size(), startedAt);
+            progress.set(result);
+            LOG.info("Due date recomputation finished: {} chores in {} ms, {} changed",
+                    processed, result.elapsedMillis(), changedIds.size());
+            return result;
+        } catch (RuntimeException e) {
+            progress.set(RecomputationProgress.of(false, processed, changedIds.size(), startedAt));
+            throw e;
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    /**
+     * @return the progress of the running or last finished recomputation, or null if none ran yet
+     */
+    public RecomputationProgress getProgress() {
+        return progress.get();
+    }
+
+    /**
+     * Recompute one chore the way the application would have: FIXED_SCHEDULE chores are due at
+     * the first occurrence after their last completion (or creation), so overdue chores stay overdue.
+     * @return the change, or null if the due date is unchanged
+     */
+    private static DueDateChange recompute(ChoreSchedule schedule) {
+        LocalDateTime reference = schedule.lastCompletedDate() != null
+                ? schedule.lastCompletedDate()
+                : schedule.createdDate();
+        LocalDateTime recomputed;
+        try {
+            recomputed = Chore.computeNextDueDate(schedule.recurrenceType(), schedule.recurrencePattern(),
+                    schedule.createdDate(), schedule.lastCompletedDate(), reference);
+        } catch (RuntimeException e) {
+            LOG.warn("Skipping chore {} with invalid recurrence pattern '{}'", schedule.id(),
+                    schedule.recurrencePattern());
+            return null;
+        }
+        if (Objects.equals(recomputed, schedule.nextDueDate())) {
+            return null;
+        }
+        return new DueDateChange(schedule.id(), schedule.nextDueDate(), recomputed);
+    }
+
+    /**
+     * Write a chunk of changes in one transaction with JDBC batches.
+     * Each update only applies if the stored due date is still the one that was read,
+     * so chores completed concurrently are not overwritten.
+     * @return the ids of the chores that were actually updated
+     */
+    private List<Long> writeChanges(List<DueDateChange> changes) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        List<DueDateChange> fromValue = changes.stream().filter(c -> c.previous() != null).toList();
+        List<DueDateChange> fromNull = changes.stream().filter(c -> c.previous() == null).toList();
+
+        return transactionTemplate.execute(status -> {
+            List<Long> updated = new ArrayList<>(changes.size());
+            collectUpdated(updated, fromValue, jdbcTemplate.batchUpdate(UPDATE_SQL, fromValue,
+                    Math.max(1, fromValue.size()), (ps, change) -> {
+                        setDueDate(ps, 1, change.recomputed());
+                        ps.setLong(2, change.id());
+                        setDueDate(ps, 3, change.previous());
+                    }));
+            collectUpdated(updated, fromNull, jdbcTemplate.batchUpdate(UPDATE_FROM_NULL_SQL, fromNull,
+                    Math.max(1, fromNull.size()), (ps, change) -> {
+                        setDueDate(ps, 1, change.recomputed());
+                        ps.setLong(2, change.id());
+                    }));
+            return updated;
+        });
+    }
+
+    private static void collectUpdated(List<Long> updated, List<DueDateChange> changes, int[][] counts) {
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers using bulk protocols may not report per-row counts
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    updated.add(changes.get(index).id());
+                }
+                index++;
+            }
+        }
+    }
+
+    private static void setDueDate(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    /**
+     * Republish MQTT state and reschedule status transitions for changed chores only.
+     */
+    private void republish(List<Long> changedIds) {
+        int chunkSize = Math.max(1, config.getChunkSize());
+        for (int from = 0; from < changedIds.size(); from += chunkSize) {
+            List<Long> ids = changedIds.subList(from, Math.min(from + chunkSize, changedIds.size()));
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                for (Chore chore : choreRepository.findAllById(ids)) {
+                    statePublisher.publishStatusAndAttributes(chore);
+                    transitionScheduler.track(chore);
+                }
+            });
+        }
+    }
+
+    private record DueDateChange(Long id, LocalDateTime previous, LocalDateTime recomputed) {}
+
+    /**
+     * Progress and throughput of a recomputation run.
+     * @param running whether the run is still in progress
+     * @param processed chores scanned so far
+     * @param changed chores whose due date was updated
+     * @param startedAt start of the run
+     * @param elapsedMillis run time so far
+     * @param choresPerSecond scan throughput
+     */
+    public record RecomputationProgress(boolean running, long processed, long changed, Instant startedAt,
+            long elapsedMillis, double choresPerSecond) {
+
+        static RecomputationProgress of(boolean running, long processed, long changed, Instant startedAt) {
+            long elapsedMillis = Duration.between(startedAt, Instant.now()).toMillis();
+            double perSecond = elapsedMillis > 0 ? processed * 1000.0 / elapsedMillis : processed;
+            return new RecomputationProgress(running, processed, changed, startedAt, elapsedMillis, perSecond);
+        }
+    }
+}
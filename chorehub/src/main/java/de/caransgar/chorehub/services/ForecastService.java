@@ -0,0 +1,306 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.config.ForecastConfigProperties;
+import de.caransgar.chorehub.dto.ChoreOccurrenceDTO;
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.recurrence.RecurrenceRuleRegistry;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Expands chore recurrences into concrete occurrences within a time window.
+ *
+ * FIXED_SCHEDULE chores follow their cron pattern from the next due date, AFTER_COMPLETION chores
+ * are assumed to be completed on time, so they repeat every interval from the next due date.
+ * ONETIME chores occur once at their due date.
+ *
+ * Each chore's occurrences are expanded lazily: the merge pulls them one at a time and stops at the
+ * limit, so only the occurrences it returns (plus one lookahead per chore) are computed. Expansions
+ * are cached per chore from a day-aligned start and extended on demand, so repeated dashboard
+ * requests with a moving window, or with a larger window or limit, continue the cached expansion.
+ * Cache entries are dropped on {@link ChoresChangedEvent} and also validated against the chore's
+ * scheduling fields, so completions and edits are always reflected.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ForecastService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ForecastService.class);
+
+    /**
+     * Days a moving window may advance before a cached expansion is restarted, and days the
+     * expansion's source runs ahead of the requested window.
+     */
+    private static final int PADDING_DAYS = 7;
+
+    private final ChoreRepository choreRepository;
+    private final ForecastConfigProperties config;
+    private final Map<Long, Expansion> cache = new ConcurrentHashMap<>();
+    private final AtomicLong expansions = new AtomicLong();
+
+    public ForecastService(ChoreRepository choreRepository, ForecastConfigProperties config) {
+        this.choreRepository = choreRepository;
+        this.config = config;
+    }
+
+    /**
+     * Forecast all occurrences within {@code [from, to)}, ordered by due date.
+     *
+     * @param from  start of the window (inclusive)
+     * @param to    end of the window (exclusive)
+     * @param user  only forecast chores assigned to this user, or null for all chores
+     * @param limit maximum number of occurrences to return; capped by the configured maximum
+     * @return the occurrences ordered by due date, then chore id
+     * @throws IllegalArgumentException if the window is empty or too large
+     */
+    public List<ChoreOccurrenceDTO> forecast(LocalDateTime from, LocalDateTime to, User user, int limit) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("Forecast 'to' must be after 'from'");
+        }
+        if (Duration.between(from, to).compareTo(config.getMaxWindow()) > 0) {
+            throw new IllegalArgumentException("Forecast window must not exceed " + config.getMaxWindow());
+        }
+        int maxOccurrences = limit > 0 ? Math.min(limit, config.getMaxOccurrences()) : config.getMaxOccurrences();
+
+        // Chores first due at or after 'to' cannot occur in the window
+        List<Chore> chores = user == null
+                ? choreRepository.findDueBeforeWithAssignedUser(to)
+                : choreRepository.findByNextDueDateIsBeforeAndAssignedUser(to, user);
+
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(chores.size() + 1,
+                Comparator.comparing(Cursor::current).thenComparing(cursor -> cursor.chore.getId()));
+        for (Chore chore : chores) {
+            Cursor cursor = new Cursor(chore, getExpansion(chore, from), from, to);
+            if (cursor.hasCurrent()) {
+                heads.add(cursor);
+            }
+        }
+
+        // k-way merge of the per-chore expansions, stopping as soon as the limit is reached
+        List<ChoreOccurrenceDTO> occurrences = new ArrayList<>();
+        while (!heads.isEmpty() && occurrences.size() < maxOccurrences) {
+            Cursor cursor = heads.poll();
+            occurrences.add(toOccurrenceDTO(cursor.chore, cursor.current()));
+            cursor.advance();
+            if (cursor.hasCurrent()) {
+                heads.add(cursor);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Drop cached expansions of chores that were completed, edited or deleted.
+     */
+    @EventListener
+    public void onChoresChanged(ChoresChangedEvent event) {
+        if (event.all()) {
+            cache.clear();
+            return;
+        }
+        event.changedIds().forEach(cache::remove);
+        event.deletedIds().forEach(cache::remove);
+    }
+
+    /**
+     * @return the number of chores with a cached expansion
+     */
+    public int cachedChoreCount() {
+        return cache.size();
+    }
+
+    /**
+     * @return the number of expansions started so far; continued expansions are not counted
+     */
+    public long expansionCount() {
+        return expansions.get();
+    }
+
+    /**
+     * @return the number of occurrences held by the cached expansions
+     */
+    public int cachedOccurrenceCount() {
+        return cache.values().stream().mapToInt(Expansion::size).sum();
+    }
+
+    private Expansion getExpansion(Chore chore, LocalDateTime from) {
+        Long choreId = chore.getId();
+        Fingerprint fingerprint = Fingerprint.of(chore);
+        Expansion cached = cache.get(choreId);
+        if (cached != null && cached.reusableFor(fingerprint, from)) {
+            return cached;
+        }
+
+        // Restart at the window, so occurrences that the window has moved past are neither kept nor computed
+        LocalDateTime start = from.truncatedTo(ChronoUnit.DAYS);
+        Expansion expansion = new Expansion(fingerprint, start,
+                (sourceFrom, sourceTo) -> occurrences(choreId, fingerprint, sourceFrom, sourceTo));
+        expansions.incrementAndGet();
+        cache.put(choreId, expansion);
+        return expansion;
+    }
+
+    private static Iterator<LocalDateTime> occurrences(Long choreId, Fingerprint fingerprint,
+            LocalDateTime from, LocalDateTime to) {
+        LocalDateTime nextDueDate = fingerprint.nextDueDate();
+        if (nextDueDate == null) {
+            return Collections.emptyIterator();
+        }
+        try {
+            if (fingerprint.recurrenceType() == RecurrenceType.FIXED_SCHEDULE) {
+                return RecurrenceRuleRegistry.cron(fingerprint.recurrencePattern()).occurrences(nextDueDate, from, to);
+            }
+            if (fingerprint.recurrenceType() == RecurrenceType.AFTER_COMPLETION) {
+                return RecurrenceRuleRegistry.duration(fingerprint.recurrencePattern())
+                        .occurrences(nextDueDate, from, to);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Chore {} has an invalid recurrence pattern '{}', forecasting its due date only",
+                    choreId, fingerprint.recurrencePattern());
+        }
+        boolean inWindow = !nextDueDate.isBefore(from) && nextDueDate.isBefore(to);
+        return inWindow ? List.of(nextDueDate).iterator() : Collections.emptyIterator();
+    }
+
+    private ChoreOccurrenceDTO toOccurrenceDTO(Chore chore, LocalDateTime dueDate) {
+        String assignedUsername = chore.getAssignedUser() != null ? chore.getAssignedUser().getName() : null;
+        return new ChoreOccurrenceDTO(chore.getId(), chore.getName(), assignedUsername, dueDate);
+    }
+
+    /**
+     * The scheduling fields an expansion depends on.
+     */
+    private record Fingerprint(RecurrenceType recurrenceType, String recurrencePattern, LocalDateTime nextDueDate) {
+
+        static Fingerprint of(Chore chore) {
+            return new Fingerprint(chore.getRecurrenceType(), chore.getRecurrencePattern(), chore.getNextDueDate());
+        }
+    }
+
+    /**
+     * The sorted occurrences of one chore from {@code start} on, computed as they are requested.
+     * Append-only, so cursors of concurrent forecasts can share it.
+     */
+    private static final class Expansion {
+        private final Fingerprint fingerprint;
+        private final LocalDateTime start;
+        private final BiFunction<LocalDateTime, LocalDateTime, Iterator<LocalDateTime>> source;
+        private final List<LocalDateTime> occurrences = new ArrayList<>();
+        /** The remaining occurrences before {@link #end}. */
+        private Iterator<LocalDateTime> remaining;
+        private LocalDateTime end;
+
+        Expansion(Fingerprint fingerprint, LocalDateTime start,
+                BiFunction<LocalDateTime, LocalDateTime, Iterator<LocalDateTime>> source) {
+            this.fingerprint = fingerprint;
+            this.start = start;
+            this.source = source;
+            this.end = start;
+            this.remaining = Collections.emptyIterator();
+        }
+
+        /**
+         * Whether a forecast from the given time can continue this expansion. Later windows
+         * extend it, but only up to a few days after its start, so it never computes a long
+         * stretch of occurrences before the window.
+         */
+        boolean reusableFor(Fingerprint fingerprint, LocalDateTime from) {
+            return this.fingerprint.equals(fingerprint)
+                    && !from.isBefore(start)
+                    && from.isBefore(start.plusDays(PADDING_DAYS + 1));
+        }
+
+        synchronized int size() {
+            return occurrences.size();
+        }
+
+        /**
+         * @return the index of the first occurrence at or after the given time, or of the first
+         *         occurrence at or after {@code to} if there is none before it
+         */
+        synchronized int indexOf(LocalDateTime time, LocalDateTime to) {
+            int index = Collections.binarySearch(occurrences, time);
+            index = index >= 0 ? index : -index - 1;
+            while (index == occurrences.size()) {
+                LocalDateTime next = get(index, to);
+                if (next == null || !next.isBefore(time)) {
+                    return index;
+                }
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * @return the occurrence at the given index, or null if it is not before {@code to}
+         */
+        synchronized LocalDateTime get(int index, LocalDateTime to) {
+            while (occurrences.size() <= index) {
+                if (remaining.hasNext()) {
+                    occurrences.add(remaining.next());
+                } else if (end.isBefore(to)) {
+                    // Continue the source past its end, a few days ahead of the requested window
+                    LocalDateTime extendedEnd = to.toLocalDate().plusDays(1 + PADDING_DAYS).atStartOfDay();
+                    remaining = source.apply(end, extendedEnd);
+                    end = extendedEnd;
+                } else {
+                    return null;
+                }
+            }
+            LocalDateTime occurrence = occurrences.get(index);
+            return occurrence.isBefore(to) ? occurrence : null;
+        }
+    }
+
+    /**
+     * Position within a chore's expansion during the merge.
+     */
+    private static final class Cursor {
+        private final Chore chore;
+        private final Expansion expansion;
+        private final LocalDateTime to;
+        private int position;
+        private LocalDateTime current;
+
+        Cursor(Chore chore, Expansion expansion, LocalDateTime from, LocalDateTime to) {
+            this.chore = chore;
+            this.expansion = expansion;
+            this.to = to;
+            this.position = expansion.indexOf(from, to);
+            this.current = expansion.get(position, to);
+        }
+
+        boolean hasCurrent() {
+            return current != null;
+        }
+
+        LocalDateTime current() {
+            return current;
+        }
+
+        void advance() {
+            position++;
+            current = expansion.get(position, to);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package de.caransgar.chorehub.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Periodically removes soft-deleted users in the background (default once a day),
+ * with the same set-based cleanup as the REST endpoint.
+ */
+@Component
+public class UserCleanupScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserCleanupScheduler.class);
+
+    private final UserService userService;
+    private final AtomicReference<UserService.CleanupDeletedUsersResult> lastResult = new AtomicReference<>();
+
+    public UserCleanupScheduler(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Scheduled(fixedRateString = "${chorehub.user-cleanup.interval:PT24H}",
+            initialDelayString = "${chorehub.user-cleanup.interval:PT24H}")
+    public void cleanupDeletedUsers() {
+        try {
+            UserService.CleanupDeletedUsersResult result = userService.cleanupDeletedUsers();
+            lastResult.set(result);
+            LOG.debug("Scheduled user cleanup: {} deleted users found, {} chores unassigned, {} users removed",
+                    result.deletedUsersFound(), result.choresUnassigned(), result.usersDeleted());
+        } catch (Exception e) {
+            LOG.error("Scheduled cleanup of deleted users failed", e);
+        }
+    }
+
+    /**
+     * The result of the last scheduled cleanup, if it ran yet.
+     */
+    public Optional<UserService.CleanupDeletedUsersResult> getLastResult() {
+        return Optional.ofNullable(lastResult.get());
+    }
+}
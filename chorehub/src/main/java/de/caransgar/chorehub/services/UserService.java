@@ -1,11 +1,18 @@
 package de.caransgar.chorehub.services;
 
-import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.config.UserCleanupConfigProperties;
 import de.caransgar.chorehub.entity.User;
 import de.caransgar.chorehub.repository.ChoreRepository;
 import de.caransgar.chorehub.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,30 +22,52 @@ import java.util.Optional;
 @Transactional
 public class UserService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(UserService.class);
+
     private final UserRepository userRepository;
     private final ChoreRepository choreRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final UserCleanupConfigProperties cleanupConfig;
 
-    public UserService(UserRepository userRepository, ChoreRepository choreRepository) {
+    public UserService(UserRepository userRepository, ChoreRepository choreRepository,
+            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+            UserCleanupConfigProperties cleanupConfig) {
         this.userRepository = userRepository;
         this.choreRepository = choreRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cleanupConfig = cleanupConfig;
     }
 
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findByDeletedFalse();
     }
 
+    // Not read-only: users are looked up by id and name right before assigning or changing them
     public Optional<User> getUserById(Long id) {
         return userRepository.findByIdAndDeletedFalse(id);
     }
 
     public User saveUser(User user) {
+        boolean existing = false;
         if (user.getId() != null) {
-            userRepository.findById(user.getId()).ifPresent(existingUser -> {
-                user.setDeleted(existingUser.isDeleted());
-                user.setDeletedAt(existingUser.getDeletedAt());
+            Optional<User> existingUser = userRepository.findById(user.getId());
+            existingUser.ifPresent(found -> {
+                user.setDeleted(found.isDeleted());
+                user.setDeletedAt(found.getDeletedAt());
             });
+            existing = existingUser.isPresent();
+        }
+        User saved = userRepository.save(user);
+        if (existing) {
+            // Chore views show the assignee's name: new chore versions, so per-chore ETags change too
+            choreRepository.touchByAssignedUser(saved.getId());
+            eventPublisher.publishEvent(ChoresChangedEvent.allChanged());
         }
-        return userRepository.save(user);
+        eventPublisher.publishEvent(new UsersChangedEvent(saved.getId()));
+        return saved;
     }
 
     public void deleteUser(Long id) {
@@ -47,37 +76,66 @@ public class UserService {
         user.setDeleted(true);
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        eventPublisher.publishEvent(new UsersChangedEvent(id));
     }
 
     public Optional<User> getUserByName(String name) {
         return userRepository.findByNameAndDeletedFalse(name);
     }
 
+    /**
+     * Hard delete all soft-deleted users, unassigning their chores first.
+     *
+     * Runs set-based in id-ordered chunks: per chunk one query for the user ids, one bulk update
+     * unassigning their chores and one bulk delete of the users, so the number of statements does
+     * not depend on how many chores the users had. Each chunk is its own transaction, unless the
+     * caller already runs in one.
+     *
+     * @return how many deleted users were found, chores unassigned and users removed
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public CleanupDeletedUsersResult cleanupDeletedUsers() {
-        List<User> deletedUsers = userRepository.findByDeletedTrue();
-        int totalUsers = deletedUsers.size();
+        int chunkSize = Math.max(1, cleanupConfig.getChunkSize());
+        int totalUsers = 0;
         int totalUnassignedChores = 0;
         int totalDeletedUsers = 0;
+        long afterId = 0L;
 
-        for (User user : deletedUsers) {
-            List<Chore> assignedChores = choreRepository.findByAssignedUser(user);
-            if (!assignedChores.isEmpty()) {
-                for (Chore chore : assignedChores) {
-                    chore.setAssignedUser(null);
+        while (true) {
+            long position = afterId;
+            CleanupChunk chunk = transactionTemplate.execute(status -> {
+                List<Long> userIds = userRepository.findDeletedIdsAfter(position, PageRequest.ofSize(chunkSize));
+                if (userIds.isEmpty()) {
+                    return null;
                 }
-                choreRepository.saveAll(assignedChores);
-                totalUnassignedChores += assignedChores.size();
+                int unassigned = choreRepository.unassignUsers(userIds);
+                int deleted = userRepository.deleteDeletedByIdIn(userIds);
+                if (unassigned > 0) {
+                    // The unassigned chore ids are not selected separately
+                    eventPublisher.publishEvent(ChoresChangedEvent.allChanged());
+                }
+                return new CleanupChunk(userIds.size(), unassigned, deleted, userIds.get(userIds.size() - 1));
+            });
+            if (chunk == null) {
+                break;
             }
-
-            boolean hasRemainingChores = choreRepository.countByAssignedUser(user) > 0;
-            if (!hasRemainingChores) {
-                userRepository.delete(user);
-                totalDeletedUsers++;
+            totalUsers += chunk.found();
+            totalUnassignedChores += chunk.unassigned();
+            totalDeletedUsers += chunk.deleted();
+            if (chunk.found() < chunkSize) {
+                break;
             }
+            afterId = chunk.lastUserId();
         }
 
+        if (totalUsers > 0) {
+            LOG.info("Cleaned up {} deleted users ({} removed, {} chores unassigned)",
+                    totalUsers, totalDeletedUsers, totalUnassignedChores);
+        }
         return new CleanupDeletedUsersResult(totalUsers, totalUnassignedChores, totalDeletedUsers);
     }
 
+    private record CleanupChunk(int found, int unassigned, int deleted, long lastUserId) {}
+
     public record CleanupDeletedUsersResult(int deletedUsersFound, int choresUnassigned, int usersDeleted) {}
 }
@@ -0,0 +1,9 @@
+package de.caransgar.chorehub.services;
+
+/**
+ * Application event published whenever a user is created, modified or deleted.
+ * Chore views that look users up by name (e.g. the per-user chore endpoints) listen to it.
+ *
+ * @param userId the id of the changed user
+ */
+public record UsersChangedEvent(Long userId) {}
@@ -0,0 +1,23 @@
+package de.caransgar.chorehub.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class QueryUtils {
+
+    /** Maximum number of ids bound to one IN list. */
+    public static final int IN_CHUNK_SIZE = 500;
+
+    /**
+     * Splits ids into consecutive chunks of at most {@link #IN_CHUNK_SIZE}, one per IN list.
+     * The chunks are views of the given list.
+     */
+    public static <T> List<List<T>> inChunks(List<T> ids) {
+        List<List<T>> chunks = new ArrayList<>((ids.size() + IN_CHUNK_SIZE - 1) / IN_CHUNK_SIZE);
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + IN_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+}
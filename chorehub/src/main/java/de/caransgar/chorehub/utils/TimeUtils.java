@@ -12,4 +12,11 @@ public class TimeUtils {
         return LocalDate.now().plusDays(1).atStartOfDay();
     }
 
+    /**
+     * Returns the LocalDateTime representing 00:00:00 of the day after the given time.
+     */
+    public static LocalDateTime getStartOfTomorrow(LocalDateTime now) {
+        return now.toLocalDate().plusDays(1).atStartOfDay();
+    }
+
 }
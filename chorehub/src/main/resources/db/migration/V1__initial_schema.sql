@@ -0,0 +1,34 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update).
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    shortname VARCHAR(255),
+    deleted BIT NOT NULL,
+    deleted_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE chores (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    recurrence_type ENUM('FIXED_SCHEDULE', 'AFTER_COMPLETION', 'ONETIME') NOT NULL,
+    recurrence_pattern VARCHAR(255),
+    assigned_user_id BIGINT,
+    created_date DATETIME(6) NOT NULL,
+    last_completed_date DATETIME(6),
+    next_due_date DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_chores_assigned_user FOREIGN KEY (assigned_user_id) REFERENCES users (id)
+);
+
+CREATE TABLE chore_history (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    chore_id BIGINT NOT NULL,
+    completed_date DATETIME(6) NOT NULL,
+    notes VARCHAR(500),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_chore_history_chore FOREIGN KEY (chore_id) REFERENCES chores (id)
+);
@@ -0,0 +1,13 @@
+-- Indexes matching the query shapes of the repositories:
+-- due chores (ChoreRepository.findByNextDueDateIsBefore),
+-- due chores per user (ChoreRepository.findByNextDueDateIsBeforeAndAssignedUser),
+-- user lookup by name (UserRepository.findByNameAndDeletedFalse),
+-- history of a chore ordered by completion (ChoreHistoryRepository.findByChoreId).
+
+CREATE INDEX idx_chores_next_due_date ON chores (next_due_date);
+
+CREATE INDEX idx_chores_assigned_user_due ON chores (assigned_user_id, next_due_date);
+
+CREATE INDEX idx_users_name_deleted ON users (name, deleted);
+
+CREATE INDEX idx_chore_history_chore_completed ON chore_history (chore_id, completed_date);
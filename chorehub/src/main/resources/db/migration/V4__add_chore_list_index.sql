@@ -0,0 +1,5 @@
+-- Index for the chore list filtered by recurrence type and paged by due date
+-- (ChoreSpecifications.hasRecurrenceType with the (next_due_date, id) keyset).
+-- Assignee filters use idx_chores_assigned_user_due, id-ordered pages use the primary key.
+
+CREATE INDEX idx_chores_recurrence_type_due ON chores (recurrence_type, next_due_date);
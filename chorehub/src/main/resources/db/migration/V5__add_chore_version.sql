@@ -0,0 +1,5 @@
+-- Optimistic locking of chores (Chore.version). Concurrent completions and edits of the same
+-- chore are detected on update instead of silently overwriting each other.
+-- Bulk statements that bypass the entity increment it themselves.
+
+ALTER TABLE chores ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
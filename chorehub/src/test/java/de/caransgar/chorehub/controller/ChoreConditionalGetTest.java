@@ -0,0 +1,146 @@
+package de.caransgar.chorehub.controller;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import de.caransgar.chorehub.services.ChoreReadModel;
+import de.caransgar.chorehub.services.ChoreService;
+import de.caransgar.chorehub.services.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional: the data version and the read model only move after commit.
+ */
+@SpringBootTest(properties = "chorehub.read-model.enabled=true")
+class ChoreConditionalGetTest {
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ChoreReadModel readModel;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+        readModel.reloadAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testUnchangedChoresAreNotModifiedWithoutDatabaseAccess() throws Exception {
+        // Given
+        User alice = userService.saveUser(new User("Alice", "A"));
+        Chore chore = choreService.saveChore(
+                new Chore("Dishes", null, RecurrenceType.AFTER_COMPLETION, "P1D", alice));
+        String listETag = eTagOf("/chores/due/user/Alice");
+        String choreETag = eTagOf("/chores/" + chore.getId());
+        statistics.clear();
+
+        // When/Then
+        mockMvc.perform(get("/chores/due/user/Alice").header("If-None-Match", listETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/chores/" + chore.getId()).header("If-None-Match", choreETag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void testChoreAndUserChangesChangeTheETags() throws Exception {
+        // Given
+        User alice = userService.saveUser(new User("Alice", "A"));
+        Chore chore = choreService.saveChore(
+                new Chore("Dishes", null, RecurrenceType.AFTER_COMPLETION, "P1D", alice));
+        String listETag = eTagOf("/chores");
+        String choreETag = eTagOf("/chores/" + chore.getId());
+
+        // When
+        choreService.markChoreAsDone(chore.getId());
+
+        // Then
+        String completedListETag = eTagOf("/chores", listETag);
+        String completedChoreETag = eTagOf("/chores/" + chore.getId(), choreETag);
+
+        // When
+        userService.saveUser(new User("Bob", "B"));
+
+        // Then
+        String withBobListETag = eTagOf("/chores", completedListETag);
+        mockMvc.perform(get("/chores/" + chore.getId()).header("If-None-Match", completedChoreETag))
+                .andExpect(status().isNotModified());
+
+        // When: the assignee's name is part of the chore
+        alice.setName("Alicia");
+        userService.saveUser(alice);
+
+        // Then
+        eTagOf("/chores", withBobListETag);
+        eTagOf("/chores/" + chore.getId(), completedChoreETag);
+    }
+
+    private String eTagOf(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    /**
+     * Revalidate with a previous ETag, expecting the resource to have changed.
+     */
+    private String eTagOf(String path, String previousETag) throws Exception {
+        String eTag = mockMvc.perform(get(path).header("If-None-Match", previousETag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(eTag).isNotEqualTo(previousETag);
+        return eTag;
+    }
+}
@@ -1,9 +1,12 @@
 package de.caransgar.chorehub.controller;
 
+import de.caransgar.chorehub.dto.BulkDoneRequest;
 import de.caransgar.chorehub.dto.CreateChoreRequest;
 import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreHistory;
 import de.caransgar.chorehub.entity.RecurrenceType;
 import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.repository.ChoreHistoryRepository;
 import de.caransgar.chorehub.repository.ChoreRepository;
 import de.caransgar.chorehub.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,10 +20,14 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -38,6 +45,9 @@ class ChoreControllerTest {
     @Autowired
     private ChoreRepository choreRepository;
 
+    @Autowired
+    private ChoreHistoryRepository choreHistoryRepository;
+
     private MockMvc mockMvc;
     private User testUser;
 
@@ -582,4 +592,474 @@ class ChoreControllerTest {
                 .andExpect(jsonPath("$[0].name").value("Assigned"));
     }
 
+    // ========== Chore List Tests ==========
+
+    @Test
+    void testGetUpcomingChoresReturnsEarliestDueChores() throws Exception {
+        // Given
+        User bob = userRepository.save(new User("Kevin Brown", "KB"));
+        LocalDateTime now = LocalDateTime.now();
+        saveChore("Overdue", testUser, now.minusDays(1));
+        saveChore("Tomorrow", testUser, now.plusDays(1));
+        saveChore("Next week", testUser, now.plusDays(7));
+        saveChore("Bob's", bob, now.plusHours(1));
+        choreRepository.save(new Chore("Undated", null, RecurrenceType.ONETIME, null, testUser));
+
+        // When/Then
+        mockMvc.perform(get("/chores/upcoming").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].name").value("Overdue"))
+                .andExpect(jsonPath("$[0].status").value("OVERDUE"))
+                .andExpect(jsonPath("$[1].name").value("Bob's"))
+                .andExpect(jsonPath("$[2].name").value("Tomorrow"));
+
+        mockMvc.perform(get("/chores/upcoming").param("user", testUser.getName()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].name").value("Overdue"))
+                .andExpect(jsonPath("$[1].name").value("Tomorrow"))
+                .andExpect(jsonPath("$[2].name").value("Next week"))
+                .andExpect(jsonPath("$[2].assignedUsername").value(testUser.getName()));
+    }
+
+    @Test
+    void testGetUpcomingChoresRejectsInvalidParameters() throws Exception {
+        mockMvc.perform(get("/chores/upcoming").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/chores/upcoming").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/chores/upcoming").param("user", "Nobody"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetAllChoresPagesById() throws Exception {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            saveChore("Chore " + i, testUser, LocalDateTime.now().plusDays(i));
+        }
+
+        // When/Then
+        String cursor = mockMvc.perform(get("/chores").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].name").value("Chore 0"))
+                .andExpect(jsonPath("$[2].name").value("Chore 2"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/chores").param("limit", "3").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("Chore 3"))
+                .andExpect(jsonPath("$[1].name").value("Chore 4"));
+    }
+
+    @Test
+    void testGetAllChoresWithoutPagingParametersReturnsAllChores() throws Exception {
+        // Given - more chores than the default page size
+        for (int i = 0; i < 101; i++) {
+            saveChore("Chore " + i, testUser, LocalDateTime.now().plusDays(i));
+        }
+
+        // When/Then
+        mockMvc.perform(get("/chores"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(101));
+    }
+
+    @Test
+    void testGetAllChoresSortsByDueDateWithUndatedChoresLast() throws Exception {
+        // Given
+        saveChore("Undated", testUser, null);
+        saveChore("Later", testUser, LocalDateTime.now().plusDays(2));
+        saveChore("Sooner", testUser, LocalDateTime.now().plusDays(1));
+
+        // When/Then - the second page crosses from dated to undated chores
+        String cursor = mockMvc.perform(get("/chores").param("sort", "nextDueDate,desc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Later"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/chores").param("sort", "nextDueDate,desc").param("limit", "2").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("Sooner"))
+                .andExpect(jsonPath("$[1].name").value("Undated"));
+    }
+
+    @Test
+    void testGetAllChoresFiltersByUserTypeStatusAndDueWindow() throws Exception {
+        // Given
+        User otherUser = userRepository.save(new User("Bob Smith", "BS"));
+        saveChore("Overdue", testUser, LocalDateTime.now().minusDays(1));
+        saveChore("Upcoming", testUser, LocalDateTime.now().plusDays(3));
+        saveChore("Other User", otherUser, LocalDateTime.now().minusDays(1));
+        Chore scheduled = saveChore("Scheduled", testUser, LocalDateTime.now().plusDays(10));
+        scheduled.setRecurrenceType(RecurrenceType.FIXED_SCHEDULE);
+        scheduled.setRecurrencePattern("0 0 8 * * *");
+        choreRepository.save(scheduled);
+
+        // When/Then
+        mockMvc.perform(get("/chores").param("user", otherUser.getName()))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Other User"));
+        mockMvc.perform(get("/chores").param("recurrenceType", "FIXED_SCHEDULE"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Scheduled"));
+        mockMvc.perform(get("/chores").param("user", testUser.getName()).param("status", "overdue"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Overdue"))
+                .andExpect(jsonPath("$[0].status").value("OVERDUE"));
+        mockMvc.perform(get("/chores")
+                .param("dueFrom", LocalDateTime.now().toString())
+                .param("dueTo", LocalDateTime.now().plusDays(5).toString()))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Upcoming"));
+    }
+
+    @Test
+    void testGetAllChoresRejectsInvalidParameters() throws Exception {
+        mockMvc.perform(get("/chores").param("sort", "name"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/chores").param("status", "sleeping"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/chores").param("recurrenceType", "WEEKLY"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/chores").param("limit", "501"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/chores").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/chores").param("user", "NonexistentUser"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetAllChoresRejectsCursorOfOtherSort() throws Exception {
+        // Given
+        saveChore("First", testUser, LocalDateTime.now().plusDays(1));
+        saveChore("Second", testUser, LocalDateTime.now().plusDays(2));
+        String cursor = mockMvc.perform(get("/chores").param("limit", "1"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        // When/Then
+        mockMvc.perform(get("/chores").param("sort", "nextDueDate").param("after", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== Calendar Feed Tests ==========
+
+    @Test
+    void testGetCalendarReturnsFeedWithETag() throws Exception {
+        // When/Then
+        mockMvc.perform(get("/chores/calendar.ics"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(content().string(startsWith("BEGIN:VCALENDAR\r\n")));
+    }
+
+    @Test
+    void testGetCalendarReturnsNotModifiedForCurrentETag() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/chores/calendar.ics"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When/Then
+        mockMvc.perform(get("/chores/calendar.ics").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetCalendarReturnsNotFoundForNonexistentUser() throws Exception {
+        mockMvc.perform(get("/chores/calendar.ics").param("user", "NonexistentUser"))
+                .andExpect(status().isNotFound());
+    }
+
+    // ========== Bulk Import Tests ==========
+
+    @Test
+    void testImportChoresFromNdjson() throws Exception {
+        // Given
+        String body = "{\"name\":\"Dishes\",\"recurrenceType\":\"AFTER_COMPLETION\",\"recurrencePattern\":\"P1D\","
+                + "\"assignedUsername\":\"" + testUser.getName() + "\"}\n"
+                + "{\"name\":\"\",\"recurrenceType\":\"ONETIME\"}\n";
+
+        // When/Then
+        mockMvc.perform(post("/chores/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.createdIds.length()").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Chore name cannot be empty"));
+
+        assertThat(choreRepository.findByAssignedUser(testUser)).extracting(Chore::getName).containsExactly("Dishes");
+    }
+
+    @Test
+    void testImportChoresRejectsJsonObject() throws Exception {
+        mockMvc.perform(post("/chores/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Single\",\"recurrenceType\":\"ONETIME\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ========== Conditional Update Tests ==========
+
+    @Test
+    void testGetChoreByIdReturnsVersionETag() throws Exception {
+        // Given
+        Chore chore = choreRepository.save(
+                new Chore("Versioned", null, RecurrenceType.AFTER_COMPLETION, "P7D", testUser));
+
+        // When/Then
+        mockMvc.perform(get("/chores/" + chore.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + chore.getVersion() + "\""));
+    }
+
+    @Test
+    void testChoreDoneWithMatchingIfMatchCompletesChore() throws Exception {
+        // Given
+        Chore chore = choreRepository.save(
+                new Chore("Versioned", null, RecurrenceType.AFTER_COMPLETION, "P7D", testUser));
+
+        // When/Then
+        mockMvc.perform(post("/chores/" + chore.getId() + "/done")
+                .header("If-Match", "\"" + chore.getVersion() + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.lastCompletedDate").isNotEmpty());
+
+        assertThat(choreHistoryRepository.findByChoreId(chore.getId())).hasSize(1);
+    }
+
+    @Test
+    void testChoreDoneWithStaleIfMatchReturnsPreconditionFailed() throws Exception {
+        // Given
+        Chore chore = choreRepository.save(
+                new Chore("Versioned", null, RecurrenceType.AFTER_COMPLETION, "P7D", testUser));
+
+        // When/Then
+        mockMvc.perform(post("/chores/" + chore.getId() + "/done")
+                .header("If-Match", "\"" + (chore.getVersion() + 1) + "\""))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(choreHistoryRepository.findByChoreId(chore.getId())).isEmpty();
+    }
+
+    @Test
+    void testUpdateChoreWithStaleIfMatchReturnsPreconditionFailed() throws Exception {
+        // Given
+        Chore chore = choreRepository.save(
+                new Chore("Versioned", null, RecurrenceType.AFTER_COMPLETION, "P7D", testUser));
+        CreateChoreRequest request = new CreateChoreRequest("Renamed", null, null, null, null);
+
+        // When/Then
+        mockMvc.perform(put("/chores/" + chore.getId())
+                .header("If-Match", "\"" + (chore.getVersion() + 1) + "\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/chores/" + chore.getId())
+                .header("If-Match", "not-an-etag")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(choreRepository.findById(chore.getId()).orElseThrow().getName()).isEqualTo("Versioned");
+    }
+
+    // ========== Conditional Get Tests ==========
+
+    @Test
+    void testGetChoresWithMatchingIfNoneMatchReturnsNotModified() throws Exception {
+        // Given
+        choreRepository.save(new Chore("Vacuum", null, RecurrenceType.AFTER_COMPLETION, "P7D", testUser));
+        String choresETag = mockMvc.perform(get("/chores"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String dueETag = mockMvc.perform(get("/chores/due"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When/Then
+        assertThat(choresETag).startsWith("\"chores-");
+        mockMvc.perform(get("/chores").header("If-None-Match", choresETag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/chores/due").header("If-None-Match", dueETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/chores/due").header("If-None-Match", "\"chores-0-0-2000-01-01\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", dueETag));
+    }
+
+    @Test
+    void testOverdueChoreETagIsMarkedAndAcceptedAsIfMatch() throws Exception {
+        // Given
+        Chore chore = saveChore("Late", testUser, LocalDateTime.now().minusHours(1));
+        String eTag = "\"" + chore.getVersion() + "-overdue\"";
+
+        // When/Then
+        mockMvc.perform(get("/chores/" + chore.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag));
+        mockMvc.perform(get("/chores/" + chore.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/chores/" + chore.getId()).header("If-None-Match", "\"" + chore.getVersion() + "\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/chores/" + chore.getId() + "/done").header("If-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastCompletedDate").isNotEmpty());
+    }
+
+    @Test
+    void testChoreIsCachedUntilItsStatusChanges() throws Exception {
+        // Given
+        Chore soon = saveChore("Soon", testUser, LocalDateTime.now().plusSeconds(10));
+        Chore late = saveChore("Late", testUser, LocalDateTime.now().minusHours(1));
+
+        // When/Then: cut short by the due date, otherwise the configured maximum
+        mockMvc.perform(get("/chores/" + soon.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", matchesPattern("max-age=(\\d|10)")))
+                .andExpect(header().exists("Expires"));
+        mockMvc.perform(get("/chores/" + late.getId()))
+                .andExpect(header().string("Cache-Control", "max-age=30"));
+        mockMvc.perform(get("/chores/upcoming"))
+                .andExpect(jsonPath("$[1].name").value("Soon"))
+                .andExpect(header().string("Cache-Control", matchesPattern("max-age=(\\d|10)")));
+    }
+
+    @Test
+    void testNotModifiedCarriesCacheHeaders() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/chores/due"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When/Then
+        mockMvc.perform(get("/chores/due").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(header().string("Cache-Control", startsWith("max-age=")))
+                .andExpect(header().exists("Expires"));
+    }
+
+    // ========== Bulk Completion Tests ==========
+
+    @Test
+    void testMarkChoresDoneCompletesAllFoundChores() throws Exception {
+        // Given
+        Chore first = choreRepository.save(
+                new Chore("Vacuum", null, RecurrenceType.AFTER_COMPLETION, "P7D", testUser));
+        Chore second = choreRepository.save(
+                new Chore("Mop", null, RecurrenceType.AFTER_COMPLETION, "P14D", testUser));
+        BulkDoneRequest request = new BulkDoneRequest(List.of(second.getId(), 999999L, first.getId()), "Cleaning day");
+
+        // When/Then
+        mockMvc.perform(post("/chores/done")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed.length()").value(2))
+                .andExpect(jsonPath("$.completed[0].id").value(second.getId()))
+                .andExpect(jsonPath("$.completed[0].lastCompletedDate").isNotEmpty())
+                .andExpect(jsonPath("$.completed[1].id").value(first.getId()))
+                .andExpect(jsonPath("$.notFound", contains(999999)));
+
+        assertThat(choreHistoryRepository.findAll())
+                .filteredOn(h -> h.getChore().getId().equals(first.getId()) || h.getChore().getId().equals(second.getId()))
+                .hasSize(2)
+                .allSatisfy(h -> assertThat(h.getNotes()).isEqualTo("Cleaning day"));
+    }
+
+    @Test
+    void testMarkChoresDoneRejectsEmptyIdList() throws Exception {
+        mockMvc.perform(post("/chores/done")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"choreIds\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At least one chore id is required"));
+    }
+
+    // ========== Chore History Tests ==========
+
+    @Test
+    void testGetChoreHistoryPagesNewestFirst() throws Exception {
+        // Given - two completions share a timestamp, so the id breaks the tie
+        Chore chore = choreRepository.save(new Chore("Water Plants", null, RecurrenceType.AFTER_COMPLETION, "P3D", testUser));
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 8, 0);
+        for (int day = 0; day < 4; day++) {
+            choreHistoryRepository.save(new ChoreHistory(chore, base.plusDays(day), "Day " + day));
+        }
+        choreHistoryRepository.save(new ChoreHistory(chore, base.plusDays(3), "Day 3 again"));
+
+        // When/Then
+        String cursor = mockMvc.perform(get("/chores/" + chore.getId() + "/history").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].notes").value("Day 3 again"))
+                .andExpect(jsonPath("$[0].choreId").value(chore.getId()))
+                .andExpect(jsonPath("$[1].notes").value("Day 3"))
+                .andExpect(jsonPath("$[2].notes").value("Day 2"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/chores/" + chore.getId() + "/history").param("limit", "3").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].notes").value("Day 1"))
+                .andExpect(jsonPath("$[1].notes").value("Day 0"));
+    }
+
+    @Test
+    void testGetChoreHistoryReturnsEmptyListWithoutCompletions() throws Exception {
+        // Given
+        Chore chore = choreRepository.save(new Chore("Water Plants", null, RecurrenceType.AFTER_COMPLETION, "P3D", testUser));
+
+        // When/Then
+        mockMvc.perform(get("/chores/" + chore.getId() + "/history"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void testGetChoreHistoryReturnsNotFoundForNonexistentChore() throws Exception {
+        mockMvc.perform(get("/chores/999999/history"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetChoreHistoryRejectsInvalidCursorAndLimit() throws Exception {
+        // Given
+        Chore chore = choreRepository.save(new Chore("Water Plants", null, RecurrenceType.AFTER_COMPLETION, "P3D", testUser));
+
+        // When/Then
+        mockMvc.perform(get("/chores/" + chore.getId() + "/history").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+        mockMvc.perform(get("/chores/" + chore.getId() + "/history").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/chores/" + chore.getId() + "/history").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Chore saveChore(String name, User user, LocalDateTime nextDueDate) {
+        Chore chore = new Chore(name, null, RecurrenceType.ONETIME, null, user);
+        chore.setNextDueDate(nextDueDate);
+        return choreRepository.save(chore);
+    }
 }
@@ -0,0 +1,121 @@
+package de.caransgar.chorehub.controller;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreHistory;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.repository.ChoreHistoryRepository;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the number of SQL statements per read endpoint, so that lazy loading of
+ * assigned users (N+1 selects) cannot creep back into the chore lists.
+ */
+@SpringBootTest
+@Transactional
+class ChoreQueryCountTest {
+
+    private static final int USERS = 10;
+    private static final int CHORES_PER_USER = 5;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private ChoreHistoryRepository choreHistoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+    private Statistics statistics;
+    private User firstUser;
+    private Chore firstChore;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+
+        for (int u = 0; u < USERS; u++) {
+            User user = userRepository.save(new User("User " + u, "U" + u));
+            for (int c = 0; c < CHORES_PER_USER; c++) {
+                Chore chore = new Chore("Chore " + u + "-" + c, null, RecurrenceType.AFTER_COMPLETION, "P7D", user);
+                chore.setNextDueDate(LocalDateTime.now().minusHours(c + 1));
+                chore = choreRepository.save(chore);
+                choreHistoryRepository.save(new ChoreHistory(chore, LocalDateTime.now().minusDays(7)));
+                if (firstChore == null) {
+                    firstUser = user;
+                    firstChore = chore;
+                }
+            }
+        }
+
+        // Nothing may be served from the persistence context
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testChoreListUsesOneStatement() throws Exception {
+        assertStatements("/chores", USERS * CHORES_PER_USER, 1);
+    }
+
+    @Test
+    void testDueChoresUseOneStatement() throws Exception {
+        assertStatements("/chores/due", USERS * CHORES_PER_USER, 1);
+    }
+
+    @Test
+    void testUserDueChoresUseUserLookupAndOneStatement() throws Exception {
+        assertStatements("/chores/due/user/" + firstUser.getName(), CHORES_PER_USER, 2);
+    }
+
+    @Test
+    void testChoreHistoryUsesExistenceCheckAndOneStatement() throws Exception {
+        assertStatements("/chores/" + firstChore.getId() + "/history", 1, 2);
+    }
+
+    private void assertStatements(String uri, int expectedSize, long maxStatements) throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(expectedSize));
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("statements executed for GET %s", uri)
+                .isLessThanOrEqualTo(maxStatements);
+    }
+}
@@ -0,0 +1,93 @@
+package de.caransgar.chorehub.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mariadb.MariaDBContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the migrations against MariaDB, the production database. The other tests use H2, which
+ * takes the H2 branch of {@link V3__Use_sequences_for_ids}. Skipped without Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MariaDbMigrationTest {
+
+    @Container
+    private static final MariaDBContainer MARIADB = new MariaDBContainer("mariadb:11.4");
+
+    @Test
+    void testMigratesExistingDataToSequences() throws Exception {
+        // Given - data written before the ids moved to sequences
+        flyway().target("2").load().migrate();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (id, name, deleted) VALUES (7, 'Alice', 0)");
+            statement.execute("INSERT INTO chores (id, name, recurrence_type, assigned_user_id, created_date)"
+                    + " VALUES (120, 'Dishes', 'ONETIME', 7, NOW(6))");
+            statement.execute("INSERT INTO chore_history (id, chore_id, completed_date) VALUES (3, 120, NOW(6))");
+        }
+
+        // When
+        MigrateResult result = flyway().load().migrate();
+
+        // Then
+        assertThat(result.success).isTrue();
+        assertThat(result.targetSchemaVersion).isEqualTo("5");
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // Existing rows keep their ids and references
+            assertThat(queryLong(statement, "SELECT assigned_user_id FROM chores WHERE id = 120")).isEqualTo(7);
+            assertThat(queryLong(statement, "SELECT chore_id FROM chore_history WHERE id = 3")).isEqualTo(120);
+
+            // Rows inserted outside Hibernate get ids from the sequences, above the existing ones
+            statement.execute("INSERT INTO chores (name, recurrence_type, assigned_user_id, created_date)"
+                    + " VALUES ('Laundry', 'ONETIME', 7, NOW(6))");
+            long choreId = queryLong(statement, "SELECT id FROM chores WHERE name = 'Laundry'");
+            assertThat(choreId).isGreaterThanOrEqualTo(120 + V3__Use_sequences_for_ids.ALLOCATION_SIZE);
+
+            // Hibernate's pooled blocks start above the existing ids
+            long usersHi = queryLong(statement, "SELECT NEXT VALUE FOR users_seq");
+            assertThat(usersHi - V3__Use_sequences_for_ids.ALLOCATION_SIZE + 1).isGreaterThan(7);
+            long historyHi = queryLong(statement, "SELECT NEXT VALUE FOR chore_history_seq");
+            assertThat(historyHi - V3__Use_sequences_for_ids.ALLOCATION_SIZE + 1).isGreaterThan(3);
+
+            // Foreign keys on the modified id columns still hold
+            statement.execute("INSERT INTO chore_history (chore_id, completed_date) VALUES (" + choreId + ", NOW(6))");
+            assertThatThrownBy(() -> statement.execute(
+                    "INSERT INTO chore_history (chore_id, completed_date) VALUES (999999, NOW(6))"))
+                    .isInstanceOf(SQLException.class);
+        }
+        assertThat(flyway().load().validateWithResult().validationSuccessful).isTrue();
+    }
+
+    /**
+     * Configured like the application: SQL migrations from the classpath, V3 as a Java migration.
+     */
+    private static FluentConfiguration flyway() {
+        return Flyway.configure()
+                .dataSource(MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword())
+                .locations("classpath:db/migration")
+                .javaMigrations(new V3__Use_sequences_for_ids());
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(MARIADB.getJdbcUrl(), MARIADB.getUsername(), MARIADB.getPassword());
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
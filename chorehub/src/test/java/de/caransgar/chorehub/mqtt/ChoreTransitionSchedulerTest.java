@@ -0,0 +1,191 @@
+package de.caransgar.chorehub.mqtt;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for ChoreTransitionScheduler.
+ * Verifies that status changes are published at the transition instant and that
+ * superseded or untracked transitions are not.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChoreTransitionSchedulerTest {
+
+    @Mock
+    private MqttGateway mqttGateway;
+
+    private ChoreTransitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ChoreTransitionScheduler(new ChoreStatePublisher(mqttGateway));
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void testPublishesOverdueWhenDueDatePasses() {
+        // Given - never completed, due shortly
+        Chore chore = createChore(1L, null, LocalDateTime.now().plusNanos(300_000_000));
+
+        // When
+        scheduler.track(chore);
+
+        // Then
+        verify(mqttGateway, timeout(2000)).sendToMqtt(ChoreStatus.OVERDUE.getHaValue(), "chorehub/chores/1/status");
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    void testPublishesOverdueForCompletedChoreWhenNextDueDatePasses() {
+        // Given - completed before, next occurrence due shortly
+        Chore chore = createChore(2L, LocalDateTime.now().minusDays(7), LocalDateTime.now().plusNanos(300_000_000));
+
+        // When
+        scheduler.track(chore);
+
+        // Then
+        verify(mqttGateway, timeout(2000)).sendToMqtt(ChoreStatus.OVERDUE.getHaValue(), "chorehub/chores/2/status");
+    }
+
+    @Test
+    void testReportsNextTransitionAndCountsFiredOnes() {
+        // Given
+        LocalDateTime due = LocalDateTime.now().plusNanos(300_000_000);
+        Chore chore = createChore(6L, null, due);
+
+        // When
+        scheduler.track(chore);
+
+        // Then
+        assertThat(scheduler.nextTransition()).isEqualTo(due.truncatedTo(ChronoUnit.MILLIS));
+        verify(mqttGateway, timeout(2000)).sendToMqtt(ChoreStatus.OVERDUE.getHaValue(), "chorehub/chores/6/status");
+        assertThat(scheduler.transitionCount()).isEqualTo(1);
+        assertThat(scheduler.nextTransition()).isNull();
+    }
+
+    @Test
+    void testRetrackSupersedesPendingTransition() {
+        // Given
+        Chore chore = createChore(3L, null, LocalDateTime.now().plusNanos(200_000_000));
+        scheduler.track(chore);
+
+        // When - completed before the due date passed, next occurrence far away
+        chore.setLastCompletedDate(LocalDateTime.now());
+        chore.setNextDueDate(LocalDateTime.now().plusDays(7));
+        scheduler.track(chore);
+
+        // Then
+        verify(mqttGateway, after(700).never()).sendToMqtt(anyString(), anyString());
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRetrackReportsNewBoundaryAsNextTransition() {
+        // Given
+        LocalDateTime due = LocalDateTime.now().plusDays(1);
+        Chore chore = createChore(8L, null, due);
+        scheduler.track(chore);
+
+        // When - postponed
+        chore.setNextDueDate(due.plusDays(6));
+        scheduler.track(chore);
+
+        // Then - the superseded boundary no longer counts
+        assertThat(scheduler.nextTransition()).isEqualTo(due.plusDays(6).truncatedTo(ChronoUnit.MILLIS));
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRetrackWithUnchangedStateKeepsSingleEntry() {
+        // Given
+        Chore chore = createChore(9L, null, LocalDateTime.now().plusDays(1));
+        scheduler.track(chore);
+
+        // When - the periodic resync tracks the unchanged chore again
+        scheduler.track(chore);
+        scheduler.track(chore);
+        scheduler.untrack(9L);
+
+        // Then - no duplicate entry is left behind
+        assertThat(scheduler.nextTransition()).isNull();
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    void testUntrackCancelsPendingTransition() {
+        // Given
+        scheduler.track(createChore(4L, null, LocalDateTime.now().plusNanos(200_000_000)));
+
+        // When
+        scheduler.untrack(4L);
+
+        // Then
+        verify(mqttGateway, after(700).never()).sendToMqtt(anyString(), anyString());
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    @Test
+    void testTracksWithinTransactionOnlyAfterCommit() {
+        // Given - a transaction in progress
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> synchronizations;
+        try {
+            // When
+            scheduler.track(createChore(7L, null, LocalDateTime.now().plusDays(1)));
+
+            // Then - nothing tracked before the commit
+            assertThat(scheduler.pendingCount()).isZero();
+            synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // When - the transaction commits
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testNoTransitionForChoreWithoutDueDate() {
+        // When
+        scheduler.track(createChore(5L, LocalDateTime.now(), null));
+
+        // Then
+        assertThat(scheduler.pendingCount()).isZero();
+    }
+
+    private Chore createChore(Long id, LocalDateTime lastCompletedDate, LocalDateTime nextDueDate) {
+        Chore chore = new Chore();
+        chore.setId(id);
+        chore.setName("Chore " + id);
+        chore.setLastCompletedDate(lastCompletedDate);
+        chore.setNextDueDate(nextDueDate);
+        return chore;
+    }
+}
@@ -0,0 +1,76 @@
+package de.caransgar.chorehub.mqtt;
+
+import de.caransgar.chorehub.config.MqttConfigProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompletionDeduplicatorTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private MqttConfigProperties config;
+    private CompletionDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        config = new MqttConfigProperties();
+        config.setDoneSuppressionWindow(Duration.ofSeconds(5));
+        deduplicator = new CompletionDeduplicator(config, clock::get);
+    }
+
+    @Test
+    void suppressesRepeatsWithinWindowPerChore() {
+        assertThat(deduplicator.tryAccept(1L)).isTrue();
+        assertThat(deduplicator.tryAccept(2L)).isTrue();
+
+        advance(Duration.ofMillis(4999));
+        assertThat(deduplicator.tryAccept(1L)).isFalse();
+        assertThat(deduplicator.tryAccept(2L)).isFalse();
+
+        advance(Duration.ofMillis(1));
+        assertThat(deduplicator.tryAccept(1L)).isTrue();
+        assertThat(deduplicator.suppressedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void releasedCompletionIsNotSuppressed() {
+        assertThat(deduplicator.tryAccept(1L)).isTrue();
+
+        deduplicator.release(1L);
+
+        assertThat(deduplicator.tryAccept(1L)).isTrue();
+        assertThat(deduplicator.suppressedCount()).isZero();
+    }
+
+    @Test
+    void zeroWindowDisablesSuppression() {
+        config.setDoneSuppressionWindow(Duration.ZERO);
+
+        assertThat(deduplicator.tryAccept(1L)).isTrue();
+        assertThat(deduplicator.tryAccept(1L)).isTrue();
+        assertThat(deduplicator.trackedCount()).isZero();
+    }
+
+    @Test
+    void expiredEntriesAreSwept() {
+        for (long id = 0; id < 300; id++) {
+            deduplicator.tryAccept(id);
+        }
+        advance(Duration.ofSeconds(10));
+
+        // The next sweep runs within the following few hundred commands
+        for (int i = 0; i < 256; i++) {
+            deduplicator.tryAccept(1000L);
+        }
+
+        assertThat(deduplicator.trackedCount()).isEqualTo(1);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,93 @@
+package de.caransgar.chorehub.mqtt;
+
+import de.caransgar.chorehub.config.MqttConfigProperties;
+import de.caransgar.chorehub.entity.Chore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for MqttBatchPublisher.
+ * Verifies that discovery for all chores precedes any state and that bursts are paced.
+ */
+@ExtendWith(MockitoExtension.class)
+class MqttBatchPublisherTest {
+
+    @Mock
+    private MqttGateway mqttGateway;
+
+    private MqttConfigProperties config;
+    private MqttBatchPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        config = new MqttConfigProperties();
+        config.setPublishBatchSize(2);
+        config.setPublishBatchPause(Duration.ofMillis(50));
+        publisher = new MqttBatchPublisher(new ChoreDiscoveryService(mqttGateway),
+                new ChoreStatePublisher(mqttGateway), config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.stop();
+    }
+
+    @Test
+    void testPublishesAllDiscoveryBeforeState() throws Exception {
+        // Given
+        List<Chore> chores = LongStream.rangeClosed(1, 3).mapToObj(this::createChore).toList();
+
+        // When
+        publisher.publishCreated(chores).get(5, TimeUnit.SECONDS);
+
+        // Then - two discovery and two state messages per chore
+        ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mqttGateway, times(12)).sendToMqtt(any(), topicCaptor.capture());
+        List<String> topics = topicCaptor.getAllValues();
+        assertThat(topics.subList(0, 6)).allMatch(topic -> topic.endsWith("/config"));
+        assertThat(topics.subList(6, 12)).noneMatch(topic -> topic.endsWith("/config"));
+    }
+
+    @Test
+    void testPausesBetweenBursts() throws Exception {
+        // Given - 3 chores in bursts of 2: one pause for discovery, one for state
+        List<Chore> chores = LongStream.rangeClosed(1, 3).mapToObj(this::createChore).toList();
+
+        // When
+        long start = System.nanoTime();
+        publisher.publishCreated(chores).get(5, TimeUnit.SECONDS);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void testEmptyBatchCompletesImmediately() {
+        assertThat(publisher.publishCreated(List.of())).isDone();
+    }
+
+    private Chore createChore(long id) {
+        Chore chore = new Chore();
+        chore.setId(id);
+        chore.setName("Chore " + id);
+        chore.setNextDueDate(LocalDateTime.now().plusDays(1));
+        return chore;
+    }
+}
@@ -1,5 +1,6 @@
 package de.caransgar.chorehub.mqtt;
 
+import de.caransgar.chorehub.config.MqttConfigProperties;
 import de.caransgar.chorehub.entity.Chore;
 import de.caransgar.chorehub.services.ChoreService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +12,15 @@ import org.springframework.integration.mqtt.support.MqttHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,10 +31,14 @@ class MqttCommandHandlerTest {
     private ChoreService choreService;
 
     private MqttCommandHandler handler;
+    private final AtomicLong clock = new AtomicLong();
 
     @BeforeEach
     void setUp() {
-        handler = new MqttCommandHandler(choreService, new MqttInboundSelfTestState());
+        MqttConfigProperties config = new MqttConfigProperties();
+        config.setDoneSuppressionWindow(Duration.ofSeconds(5));
+        handler = new MqttCommandHandler(choreService, new MqttInboundSelfTestState(),
+                new CompletionDeduplicator(config, clock::get));
     }
 
     @Test
@@ -73,4 +84,90 @@ class MqttCommandHandlerTest {
 
         verify(choreService, never()).markChoreAsDone(7L);
     }
+
+    @Test
+    void handlesBulkDoneTopicWithArrayPayload() {
+        when(choreService.markChoresAsDone(List.of(1L, 2L, 3L), null))
+                .thenReturn(new ChoreService.BulkCompletionResult(List.of(), List.of(1L, 2L, 3L)));
+
+        Message<String> message = MessageBuilder
+                .withPayload("[1, 2, 3]")
+                .setHeader(MqttHeaders.RECEIVED_TOPIC, "chorehub/chores/done/set")
+                .build();
+
+        handler.handleMqttCommand(message);
+
+        verify(choreService).markChoresAsDone(List.of(1L, 2L, 3L), null);
+    }
+
+    @Test
+    void handlesBulkDoneTopicWithObjectPayload() {
+        when(choreService.markChoresAsDone(List.of(4L, 5L), "weekend"))
+                .thenReturn(new ChoreService.BulkCompletionResult(List.of(), List.of()));
+
+        Message<String> message = MessageBuilder
+                .withPayload("{\"choreIds\": [4, 5], \"notes\": \"weekend\"}")
+                .setHeader(MqttHeaders.RECEIVED_TOPIC, "chorehub/chores/done/set")
+                .build();
+
+        handler.handleMqttCommand(message);
+
+        verify(choreService).markChoresAsDone(List.of(4L, 5L), "weekend");
+    }
+
+    @Test
+    void ignoresMalformedBulkDonePayloads() {
+        for (String payload : List.of("not json", "{\"notes\": \"x\"}", "[1, \"two\"]", "[1.5]")) {
+            Message<String> message = MessageBuilder
+                    .withPayload(payload)
+                    .setHeader(MqttHeaders.RECEIVED_TOPIC, "chorehub/chores/done/set")
+                    .build();
+
+            handler.handleMqttCommand(message);
+        }
+
+        verify(choreService, never()).markChoresAsDone(anyList(), any());
+    }
+
+    @Test
+    void dropsRepeatedDoneCommandWithinSuppressionWindow() {
+        Chore chore = new Chore();
+        chore.setId(42L);
+        when(choreService.markChoreAsDone(42L)).thenReturn(Optional.of(chore));
+        Message<String> message = MessageBuilder
+                .withPayload("PRESS")
+                .setHeader(MqttHeaders.RECEIVED_TOPIC, "chorehub/chores/42/done/set")
+                .build();
+
+        handler.handleMqttCommand(message);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        handler.handleMqttCommand(message);
+
+        verify(choreService, times(1)).markChoreAsDone(42L);
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        handler.handleMqttCommand(message);
+
+        verify(choreService, times(2)).markChoreAsDone(42L);
+    }
+
+    @Test
+    void bulkDoneSkipsChoresCompletedWithinSuppressionWindow() {
+        Chore chore = new Chore();
+        chore.setId(1L);
+        when(choreService.markChoreAsDone(1L)).thenReturn(Optional.of(chore));
+        when(choreService.markChoresAsDone(List.of(2L), null))
+                .thenReturn(new ChoreService.BulkCompletionResult(List.of(), List.of()));
+
+        handler.handleMqttCommand(MessageBuilder
+                .withPayload("PRESS")
+                .setHeader(MqttHeaders.RECEIVED_TOPIC, "chorehub/chores/1/done/set")
+                .build());
+        handler.handleMqttCommand(MessageBuilder
+                .withPayload("[1, 2, 2]")
+                .setHeader(MqttHeaders.RECEIVED_TOPIC, "chorehub/chores/done/set")
+                .build());
+
+        verify(choreService).markChoresAsDone(List.of(2L), null);
+    }
 }
@@ -0,0 +1,159 @@
+package de.caransgar.chorehub.recurrence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Differential tests for FastCronRecurrenceRule.
+ * Every recognized pattern must produce exactly the same next occurrence as Spring's CronExpression.
+ */
+class FastCronRecurrenceRuleTest {
+
+    private static final String[] DAY_NAMES = { "MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN" };
+    private static final int PATTERNS = 2000;
+    private static final int DATES_PER_PATTERN = 25;
+
+    @Test
+    void testRecognizesCommonShapes() {
+        assertThat(FastCronRecurrenceRule.tryCompile("0 0 8 * * *")).get()
+                .extracting(FastCronRecurrenceRule::getShape).isEqualTo(FastCronRecurrenceRule.Shape.DAILY);
+        assertThat(FastCronRecurrenceRule.tryCompile("0 0 8 ? * MON")).get()
+                .extracting(FastCronRecurrenceRule::getShape).isEqualTo(FastCronRecurrenceRule.Shape.WEEKLY);
+        assertThat(FastCronRecurrenceRule.tryCompile("0 30 18 * * mon-fri")).get()
+                .extracting(FastCronRecurrenceRule::getShape).isEqualTo(FastCronRecurrenceRule.Shape.WEEKLY);
+        assertThat(FastCronRecurrenceRule.tryCompile("0 0 0 1 * *")).get()
+                .extracting(FastCronRecurrenceRule::getShape).isEqualTo(FastCronRecurrenceRule.Shape.MONTHLY);
+    }
+
+    @Test
+    void testLeavesOtherShapesToCronExpression() {
+        assertThat(FastCronRecurrenceRule.tryCompile("0 */15 * * * *")).isEmpty();
+        assertThat(FastCronRecurrenceRule.tryCompile("0 0 10 1 * MON")).isEmpty();
+        assertThat(FastCronRecurrenceRule.tryCompile("0 0 0 L * *")).isEmpty();
+        assertThat(FastCronRecurrenceRule.tryCompile("0 0 8 * 1 *")).isEmpty();
+        assertThat(FastCronRecurrenceRule.tryCompile("0 0 8 * * MON#1")).isEmpty();
+        assertThat(FastCronRecurrenceRule.tryCompile("0 0 8 * * */2")).isEmpty();
+        assertThat(FastCronRecurrenceRule.tryCompile("@daily")).isEmpty();
+    }
+
+    @Test
+    void testDescribesShapesAsICalendarRules() {
+        assertThat(RecurrenceRuleRegistry.cron("0 0 8 * * *").toICalendarRule())
+                .contains("FREQ=DAILY;BYHOUR=8;BYMINUTE=0;BYSECOND=0");
+        assertThat(RecurrenceRuleRegistry.cron("0 30 18 ? * THU,MON").toICalendarRule())
+                .contains("FREQ=WEEKLY;BYDAY=MO,TH;BYHOUR=18;BYMINUTE=30;BYSECOND=0");
+        assertThat(RecurrenceRuleRegistry.cron("0 0 9 31 * *").toICalendarRule())
+                .contains("FREQ=MONTHLY;BYMONTHDAY=31;BYHOUR=9;BYMINUTE=0;BYSECOND=0");
+        assertThat(RecurrenceRuleRegistry.cron("0 */15 * * * *").toICalendarRule()).isEmpty();
+        assertThat(RecurrenceRuleRegistry.duration("P14D").toICalendarRule()).contains("FREQ=DAILY;INTERVAL=14");
+        assertThat(RecurrenceRuleRegistry.duration("PT90M").toICalendarRule()).contains("FREQ=MINUTELY;INTERVAL=90");
+    }
+
+    @Test
+    void testMonthlyOnDay31SkipsShortMonths() {
+        // Given
+        RecurrenceRule rule = FastCronRecurrenceRule.tryCompile("0 0 9 31 * *").orElseThrow();
+
+        // When
+        LocalDateTime next = rule.next(LocalDateTime.of(2024, 1, 31, 10, 0));
+
+        // Then - February, April etc. have no 31st
+        assertThat(next).isEqualTo(LocalDateTime.of(2024, 3, 31, 9, 0));
+    }
+
+    @Test
+    void testMatchesCronExpressionOnRandomizedPatternsAndDates() {
+        Random random = new Random(20240101L);
+
+        for (int i = 0; i < PATTERNS; i++) {
+            String pattern = randomPattern(random);
+            RecurrenceRule fast = FastCronRecurrenceRule.tryCompile(pattern).orElse(null);
+            assertThat(fast).as("fast path for '%s'", pattern).isNotNull();
+            CronExpression expected = CronExpression.parse(pattern);
+
+            for (LocalDateTime reference : randomDates(random, pattern)) {
+                assertThat(fast.next(reference))
+                        .as("next of '%s' after %s", pattern, reference)
+                        .isEqualTo(expected.next(reference));
+            }
+        }
+    }
+
+    @Test
+    void testRegistryResultsMatchCronExpressionForGeneralPatterns() {
+        Random random = new Random(42L);
+        String[] patterns = { "0 */15 * * * *", "0 0 10 1 * MON", "0 0 0 L * *", "0 0 8 1 1 *", "0 0 8-10 * * *" };
+
+        for (String pattern : patterns) {
+            RecurrenceRule rule = RecurrenceRuleRegistry.cron(pattern);
+            CronExpression expected = CronExpression.parse(pattern);
+            for (LocalDateTime reference : randomDates(random, pattern)) {
+                assertThat(rule.next(reference))
+                        .as("next of '%s' after %s", pattern, reference)
+                        .isEqualTo(expected.next(reference));
+            }
+        }
+    }
+
+    private String randomPattern(Random random) {
+        String time = random.nextInt(60) + " " + random.nextInt(60) + " " + random.nextInt(24);
+        switch (random.nextInt(3)) {
+            case 0:
+                return time + " " + (random.nextBoolean() ? "*" : "?") + " * *";
+            case 1:
+                return time + " " + (random.nextBoolean() ? "*" : "?") + " * " + randomDaysOfWeek(random);
+            default:
+                return time + " " + (1 + random.nextInt(31)) + " * " + (random.nextBoolean() ? "*" : "?");
+        }
+    }
+
+    private String randomDaysOfWeek(Random random) {
+        List<String> parts = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    parts.add(DAY_NAMES[random.nextInt(7)]);
+                    break;
+                case 1:
+                    parts.add(DAY_NAMES[random.nextInt(7)].toLowerCase());
+                    break;
+                case 2:
+                    parts.add(Integer.toString(random.nextInt(8)));
+                    break;
+                default:
+                    int from = random.nextInt(7);
+                    int to = from + random.nextInt(8 - from);
+                    parts.add(from + "-" + to);
+            }
+        }
+        return String.join(",", parts);
+    }
+
+    private List<LocalDateTime> randomDates(Random random, String pattern) {
+        List<LocalDateTime> dates = new ArrayList<>();
+        for (int i = 0; i < DATES_PER_PATTERN; i++) {
+            LocalDateTime date = LocalDateTime.of(2020 + random.nextInt(10), 1 + random.nextInt(12), 1, 0, 0)
+                    .plusDays(random.nextInt(31))
+                    .plusSeconds(random.nextInt(86400));
+            if (random.nextBoolean()) {
+                date = date.plusNanos(random.nextInt(1_000_000_000));
+            }
+            dates.add(date);
+        }
+        // Exact hits on the pattern's own occurrences are the classic off-by-one trap
+        LocalDateTime occurrence = CronExpression.parse(pattern).next(dates.get(0));
+        if (occurrence != null) {
+            dates.add(occurrence);
+            dates.add(occurrence.minusNanos(1));
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,71 @@
+package de.caransgar.chorehub.recurrence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OccurrenceIteratorTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void testCronChainStartsAtAnchorInsideWindow() {
+        // Given - Monday 2024-01-01, weekly on Monday and Thursday
+        RecurrenceRule rule = RecurrenceRuleRegistry.cron("0 0 8 * * MON,THU");
+
+        // When
+        List<LocalDateTime> occurrences = toList(rule.occurrences(FROM.withHour(8), FROM, FROM.plusDays(7)));
+
+        // Then
+        assertThat(occurrences).containsExactly(FROM.withHour(8), FROM.plusDays(3).withHour(8));
+    }
+
+    @Test
+    void testDurationChainJumpsToWindow() {
+        // Given - a minutely chain anchored years before the window
+        RecurrenceRule rule = RecurrenceRuleRegistry.duration("PT1M");
+
+        // When
+        List<LocalDateTime> occurrences = toList(
+                rule.occurrences(FROM.minusYears(5).plusSeconds(30), FROM, FROM.plusMinutes(3)));
+
+        // Then
+        assertThat(occurrences).containsExactly(FROM.plusSeconds(30), FROM.plusMinutes(1).plusSeconds(30),
+                FROM.plusMinutes(2).plusSeconds(30));
+    }
+
+    @Test
+    void testGeneralCronJumpMatchesStepping() {
+        // Given
+        RecurrenceRule rule = RecurrenceRuleRegistry.cron("0 */20 9-10 * * MON-FRI");
+        LocalDateTime anchor = FROM.minusDays(40).withHour(9);
+
+        // When
+        LocalDateTime jumped = rule.firstAtOrAfter(anchor, FROM.plusHours(12));
+        LocalDateTime stepped = anchor;
+        while (stepped.isBefore(FROM.plusHours(12))) {
+            stepped = rule.next(stepped);
+        }
+
+        // Then
+        assertThat(jumped).isEqualTo(stepped);
+    }
+
+    @Test
+    void testZeroDurationYieldsSingleOccurrence() {
+        RecurrenceRule rule = RecurrenceRuleRegistry.duration("PT0S");
+
+        assertThat(toList(rule.occurrences(FROM, FROM, FROM.plusDays(1)))).containsExactly(FROM);
+    }
+
+    private List<LocalDateTime> toList(Iterator<LocalDateTime> iterator) {
+        List<LocalDateTime> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+}
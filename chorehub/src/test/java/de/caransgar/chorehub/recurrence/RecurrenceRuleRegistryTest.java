@@ -0,0 +1,88 @@
+package de.caransgar.chorehub.recurrence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RecurrenceRuleRegistryTest {
+
+    @BeforeEach
+    void setUp() {
+        RecurrenceRuleRegistry.clear();
+    }
+
+    @Test
+    void testCronPatternIsParsedOnce() {
+        // Given
+        RecurrenceRuleRegistry.Stats before = RecurrenceRuleRegistry.stats();
+
+        // When
+        RecurrenceRule first = RecurrenceRuleRegistry.cron("0 0 8 * * MON");
+        RecurrenceRule second = RecurrenceRuleRegistry.cron("0 0 8 * * MON");
+
+        // Then
+        RecurrenceRuleRegistry.Stats after = RecurrenceRuleRegistry.stats();
+        assertThat(second).isSameAs(first);
+        assertThat(after.misses() - before.misses()).isEqualTo(1);
+        assertThat(after.hits() - before.hits()).isEqualTo(1);
+        assertThat(after.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testCronRuleComputesNextOccurrence() {
+        // Given - Monday 2024-01-01 09:00
+        LocalDateTime reference = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        // When
+        LocalDateTime next = RecurrenceRuleRegistry.cron("0 0 8 * * MON").next(reference);
+
+        // Then
+        assertThat(next).isEqualTo(LocalDateTime.of(2024, 1, 8, 8, 0));
+    }
+
+    @Test
+    void testDurationRuleAddsInterval() {
+        // Given
+        LocalDateTime reference = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        // When
+        LocalDateTime next = RecurrenceRuleRegistry.duration("P7D").next(reference);
+
+        // Then
+        assertThat(next).isEqualTo(LocalDateTime.of(2024, 1, 8, 9, 0));
+    }
+
+    @Test
+    void testInvalidPatternsAreRejectedAndNotCached() {
+        assertThatThrownBy(() -> RecurrenceRuleRegistry.cron("invalid cron"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRuleRegistry.duration("not a duration"))
+                .isInstanceOf(DateTimeParseException.class);
+
+        assertThat(RecurrenceRuleRegistry.stats().size()).isZero();
+    }
+
+    @Test
+    void testSamePatternStringIsCachedPerKind() {
+        // "P7D" is a duration, never a cron expression
+        RecurrenceRuleRegistry.duration("P7D");
+
+        assertThatThrownBy(() -> RecurrenceRuleRegistry.cron("P7D"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testRegistryIsBounded() {
+        // When
+        for (int i = 0; i < RecurrenceRuleRegistry.MAX_ENTRIES + 50; i++) {
+            RecurrenceRuleRegistry.duration("PT" + (i + 1) + "M");
+        }
+
+        // Then
+        assertThat(RecurrenceRuleRegistry.stats().size()).isLessThanOrEqualTo(RecurrenceRuleRegistry.MAX_ENTRIES);
+    }
+}
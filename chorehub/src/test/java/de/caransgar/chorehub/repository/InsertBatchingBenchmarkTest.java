@@ -0,0 +1,127 @@
+package de.caransgar.chorehub.repository;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.services.ChoreService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares insert throughput with and without JDBC batching for chore imports and bulk completions.
+ * Batching only works because ids come from pooled sequences instead of IDENTITY columns.
+ * The throughput numbers are logged; the assertions check the round trips, which do not
+ * depend on the machine.
+ */
+@SpringBootTest
+@Transactional
+class InsertBatchingBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InsertBatchingBenchmarkTest.class);
+    private static final int ROWS = 1000;
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testChoreImportIsInsertedInBatches() {
+        // When - warm up, then import the same number of chores without and with batching
+        measure("warm-up", 1, () -> importChores("Warm-up"));
+        Result unbatched = measure("import, unbatched", 1, () -> importChores("Unbatched"));
+        Result batched = measure("import, batched", null, () -> importChores("Batched"));
+
+        // Then - one statement per row without batching, one per batch (plus id blocks) with it
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(batched.statements()).isLessThanOrEqualTo(2 * ROWS / 50 + 2);
+    }
+
+    @Test
+    void testBulkCompletionsAreWrittenInBatches() {
+        // Given
+        List<Long> first = importChores("First");
+        List<Long> second = importChores("Second");
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Result unbatched = measure("completion, unbatched", 1, () -> completeAll(first));
+        Result batched = measure("completion, batched", null, () -> completeAll(second));
+
+        // Then - one history insert and one chore update per completion
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo(2 * ROWS);
+        assertThat(batched.statements()).isLessThanOrEqualTo(3 * ROWS / 50 + 3);
+    }
+
+    private List<Long> importChores(String prefix) {
+        List<Chore> chores = IntStream.range(0, ROWS)
+                .mapToObj(i -> new Chore(prefix + " " + i, null, RecurrenceType.AFTER_COMPLETION, "P7D", null))
+                .toList();
+        return choreRepository.saveAll(chores).stream().map(Chore::getId).toList();
+    }
+
+    private void completeAll(List<Long> choreIds) {
+        for (Chore chore : choreRepository.findAllById(choreIds)) {
+            choreService.markChoreAsDone(chore);
+        }
+    }
+
+    private Result measure(String label, Integer batchSize, Runnable action) {
+        Session session = entityManager.unwrap(Session.class);
+        entityManager.flush();
+        entityManager.clear();
+        session.setJdbcBatchSize(batchSize);
+        statistics.clear();
+        try {
+            long start = System.nanoTime();
+            action.run();
+            entityManager.flush();
+            long nanos = System.nanoTime() - start;
+
+            Result result = new Result(statistics.getPrepareStatementCount(), nanos);
+            LOG.info("{}: {} rows in {} ms ({} rows/s), {} statements", label, ROWS, nanos / 1_000_000,
+                    ROWS * 1_000_000_000L / Math.max(1, nanos), result.statements());
+            return result;
+        } finally {
+            session.setJdbcBatchSize(null);
+            entityManager.clear();
+        }
+    }
+
+    private record Result(long statements, long nanos) {}
+}
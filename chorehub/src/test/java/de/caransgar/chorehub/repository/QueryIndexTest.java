@@ -0,0 +1,168 @@
+package de.caransgar.chorehub.repository;
+
+import de.caransgar.chorehub.dto.ChoreSort;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.services.ChoreService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies through EXPLAIN that the statements Hibernate generates for the repository queries
+ * use the indexes created by the migrations instead of scanning. The statements are captured
+ * with {@link RecordingStatementInspector}. Runs against H2 in MariaDB mode, like the rest of the tests.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "de.caransgar.chorehub.repository.RecordingStatementInspector")
+@Transactional
+class QueryIndexTest {
+
+    private static final LocalDateTime DUE_BEFORE = LocalDateTime.of(2030, 1, 15, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChoreHistoryRepository choreHistoryRepository;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private Flyway flyway;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM chore_history");
+        jdbcTemplate.update("DELETE FROM chores");
+        jdbcTemplate.update("DELETE FROM users");
+
+        // Enough rows that a scan is clearly more expensive than an index lookup
+        for (int user = 0; user < 20; user++) {
+            jdbcTemplate.update("INSERT INTO users (name, shortname, deleted) VALUES (?, ?, ?)",
+                    "User " + user, "U" + user, user % 5 == 0);
+        }
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users", Long.class);
+        for (int chore = 0; chore < 300; chore++) {
+            jdbcTemplate.update("INSERT INTO chores (name, recurrence_type, recurrence_pattern, assigned_user_id, "
+                    + "created_date, next_due_date) VALUES (?, 'AFTER_COMPLETION', 'P7D', ?, "
+                    + "TIMESTAMP '2030-01-01 00:00:00', DATEADD(HOUR, ?, TIMESTAMP '2030-01-01 00:00:00'))",
+                    "Chore " + chore, userIds.get(chore % userIds.size()), chore * 7);
+        }
+        List<Long> choreIds = jdbcTemplate.queryForList("SELECT id FROM chores", Long.class);
+        for (int entry = 0; entry < 600; entry++) {
+            jdbcTemplate.update("INSERT INTO chore_history (chore_id, completed_date) "
+                    + "VALUES (?, DATEADD(DAY, ?, TIMESTAMP '2029-01-01 00:00:00'))",
+                    choreIds.get(entry % choreIds.size()), entry);
+        }
+    }
+
+    @Test
+    void testMigrationsAreApplied() {
+        List<String> versions = Arrays.stream(flyway.info().applied())
+                .map(migration -> migration.getVersion().getVersion())
+                .toList();
+
+        assertThat(versions).startsWith("1", "2", "3", "4", "5");
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void testDueChoresQueryUsesDueDateIndex() {
+        String sql = capture(() -> choreRepository.findDueBeforeAsDTO(DUE_BEFORE));
+
+        assertUsesIndex(explain(sql, DUE_BEFORE), "IDX_CHORES_NEXT_DUE_DATE");
+    }
+
+    @Test
+    void testUserDueChoresQueryUsesAssigneeDueDateIndex() {
+        User user = someUser();
+
+        String sql = capture(() -> choreRepository.findDueBeforeByAssignedUserAsDTO(DUE_BEFORE, user));
+
+        assertUsesIndex(explain(sql, user.getId(), DUE_BEFORE), "IDX_CHORES_ASSIGNED_USER_DUE");
+    }
+
+    @Test
+    void testUserUpcomingChoresQueryUsesAssigneeDueDateIndex() {
+        User user = someUser();
+
+        String sql = capture(() -> choreRepository.findUpcomingByAssignedUserAsDTO(user, PageRequest.of(0, 5)));
+
+        assertUsesIndex(explain(sql, user.getId(), 5), "IDX_CHORES_ASSIGNED_USER_DUE");
+    }
+
+    @Test
+    void testChoreListByRecurrenceTypeUsesRecurrenceTypeDueIndex() {
+        ChoreService.ChoreFilter filter = new ChoreService.ChoreFilter(
+                null, RecurrenceType.FIXED_SCHEDULE, null, DUE_BEFORE, null);
+
+        // The first statement reads the chores with a due date; limit + 1 rows are fetched
+        String sql = capture(() -> choreService.findChores(filter, ChoreSort.parse("nextDueDate"), null, 5));
+
+        assertUsesIndex(explain(sql, RecurrenceType.FIXED_SCHEDULE.name(), DUE_BEFORE, 6),
+                "IDX_CHORES_RECURRENCE_TYPE_DUE");
+    }
+
+    @Test
+    void testUserByNameQueryUsesNameDeletedIndex() {
+        String sql = capture(() -> userRepository.findByNameAndDeletedFalse("User 3"));
+
+        assertUsesIndex(explain(sql, "User 3"), "IDX_USERS_NAME_DELETED");
+    }
+
+    @Test
+    void testChoreHistoryQueryUsesChoreCompletedIndex() {
+        Long choreId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM chores", Long.class);
+
+        String sql = capture(() -> choreHistoryRepository.findLatest(choreId, PageRequest.of(0, 10)));
+
+        assertUsesIndex(explain(sql, choreId, 10), "IDX_CHORE_HISTORY_CHORE_COMPLETED");
+    }
+
+    private User someUser() {
+        Long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        return userRepository.findById(userId).orElseThrow();
+    }
+
+    /**
+     * @return the first statement Hibernate generated while running the query
+     */
+    private String capture(Runnable query) {
+        RecordingStatementInspector.clear();
+        query.run();
+        List<String> statements = RecordingStatementInspector.statements();
+        assertThat(statements).as("statements of the query").isNotEmpty();
+        return statements.getFirst();
+    }
+
+    /**
+     * EXPLAIN a captured statement, with its parameters bound in order.
+     */
+    private String explain(String sql, Object... parameters) {
+        assertThat(sql.chars().filter(c -> c == '?').count()).as(sql).isEqualTo(parameters.length);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private void assertUsesIndex(String plan, String indexName) {
+        assertThat(plan.toUpperCase()).as(plan).contains(indexName).doesNotContain("TABLESCAN");
+    }
+}
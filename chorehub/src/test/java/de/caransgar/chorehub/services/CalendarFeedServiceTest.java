@@ -0,0 +1,154 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional: the feed picks up changes only after they are committed.
+ */
+@SpringBootTest
+class CalendarFeedServiceTest {
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+        alice = userRepository.save(new User("Alice", "A"));
+        calendarFeedService.onChoresChanged(ChoresChangedEvent.allChanged());
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testFeedContainsRecurringAndOneTimeChores() {
+        // Given
+        createChore("Water plants", "Balcony, kitchen", RecurrenceType.FIXED_SCHEDULE, "0 0 8 * * MON,THU",
+                LocalDateTime.of(2030, 1, 3, 8, 0), alice);
+        createChore("Buy gift", null, RecurrenceType.ONETIME, null, LocalDateTime.of(2030, 2, 1, 18, 0), null);
+
+        // When
+        String feed = content(calendarFeedService.getFeed(null));
+
+        // Then
+        assertThat(feed).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(feed).contains("DTSTART:20300103T080000\r\n"
+                + "RRULE:FREQ=WEEKLY;BYDAY=MO,TH;BYHOUR=8;BYMINUTE=0;BYSECOND=0\r\n"
+                + "SUMMARY:Water plants\r\n"
+                + "DESCRIPTION:Balcony\\, kitchen\\nAssigned to: Alice\r\n");
+        assertThat(feed).contains("DTSTART:20300201T180000\r\nSUMMARY:Buy gift\r\n");
+    }
+
+    @Test
+    void testUserFeedOnlyContainsAssignedChores() {
+        // Given
+        createChore("Laundry", null, RecurrenceType.AFTER_COMPLETION, "P3D", LocalDateTime.of(2030, 1, 1, 12, 0), alice);
+        createChore("Vacuum", null, RecurrenceType.AFTER_COMPLETION, "P7D", LocalDateTime.of(2030, 1, 1, 12, 0), null);
+
+        // When
+        String feed = content(calendarFeedService.getFeed("Alice"));
+
+        // Then
+        assertThat(feed).contains("SUMMARY:Laundry", "RRULE:FREQ=DAILY;INTERVAL=3").doesNotContain("Vacuum");
+    }
+
+    @Test
+    void testETagChangesOnlyWhenChoresChange() {
+        // Given
+        Chore chore = createChore("Laundry", null, RecurrenceType.AFTER_COMPLETION, "P3D",
+                LocalDateTime.of(2030, 1, 1, 12, 0), null);
+        CalendarFeedService.CalendarFeed first = calendarFeedService.getFeed(null);
+
+        // When - nothing changed
+        CalendarFeedService.CalendarFeed unchanged = calendarFeedService.getFeed(null);
+
+        // Then
+        assertThat(calendarFeedService.getETag()).isEqualTo(first.eTag());
+        assertThat(unchanged).isSameAs(first);
+
+        // When - the chore is renamed
+        chore.setName("Wash clothes");
+        choreService.saveChore(chore);
+
+        // Then
+        CalendarFeedService.CalendarFeed changed = calendarFeedService.getFeed(null);
+        assertThat(changed.eTag()).isNotEqualTo(first.eTag()).isEqualTo(calendarFeedService.getETag());
+        assertThat(content(changed)).contains("SUMMARY:Wash clothes").doesNotContain("SUMMARY:Laundry");
+    }
+
+    @Test
+    void testDeletedChoreIsRemovedFromFeed() {
+        // Given
+        Chore chore = createChore("Laundry", null, RecurrenceType.AFTER_COMPLETION, "P3D",
+                LocalDateTime.of(2030, 1, 1, 12, 0), null);
+        assertThat(content(calendarFeedService.getFeed(null))).contains("SUMMARY:Laundry");
+
+        // When
+        choreService.deleteChore(chore.getId());
+
+        // Then
+        assertThat(content(calendarFeedService.getFeed(null))).doesNotContain("VEVENT");
+    }
+
+    @Test
+    void testLongLinesAreFolded() {
+        // Given
+        createChore("Clean " + "ü".repeat(60), null, RecurrenceType.ONETIME, null,
+                LocalDateTime.of(2030, 1, 1, 12, 0), null);
+
+        // When
+        byte[] feed = calendarFeedService.getFeed(null).content();
+
+        // Then
+        for (String line : new String(feed, StandardCharsets.UTF_8).split("\r\n")) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+    }
+
+    private Chore createChore(String name, String description, RecurrenceType type, String pattern,
+            LocalDateTime nextDueDate, User user) {
+        Chore chore = new Chore();
+        chore.setName(name);
+        chore.setDescription(description);
+        chore.setRecurrenceType(type);
+        chore.setRecurrencePattern(pattern);
+        chore.setAssignedUser(user);
+        chore.setCreatedDate(LocalDateTime.of(2029, 12, 1, 0, 0));
+        chore.setNextDueDate(nextDueDate);
+        return choreService.saveChore(chore);
+    }
+
+    private String content(CalendarFeedService.CalendarFeed feed) {
+        return new String(feed.content(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,158 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.dto.BulkMutationRequest;
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreHistory;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.mqtt.ChoreMqttTopics;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.repository.ChoreHistoryRepository;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Not transactional: MQTT updates are only published after commit.
+ */
+@SpringBootTest(properties = "chorehub.mqtt.publish-batch-pause=0s")
+class ChoreBulkMutationServiceTest {
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private ChoreBulkMutationService bulkMutationService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private ChoreHistoryRepository choreHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+        alice = userRepository.save(new User("Alice", "A"));
+        bob = userRepository.save(new User("Bob", "B"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testReassignsAllChoresOfCurrentAssignee() {
+        // Given
+        Chore dishes = save("Dishes", RecurrenceType.AFTER_COMPLETION, "P1D", alice);
+        Chore laundry = save("Laundry", RecurrenceType.AFTER_COMPLETION, "P7D", alice);
+        Chore garden = save("Garden", RecurrenceType.AFTER_COMPLETION, "P14D", bob);
+        BulkMutationRequest request = new BulkMutationRequest(BulkMutationRequest.Action.REASSIGN, null, "Alice");
+        request.setAssignedUsername("Bob");
+
+        // When
+        ChoreBulkMutationService.BulkMutationResult result = bulkMutationService.mutate(request);
+
+        // Then
+        assertThat(result.affected()).containsExactly(dishes.getId(), laundry.getId());
+        assertThat(choreRepository.findIdsByAssignedUser(bob))
+                .containsExactly(dishes.getId(), laundry.getId(), garden.getId());
+        assertThat(choreRepository.findIdsByAssignedUser(alice)).isEmpty();
+        verify(mqttGateway, timeout(5000)).sendToMqtt(anyString(), eq(ChoreMqttTopics.attributesTopic(dishes.getId())));
+    }
+
+    @Test
+    void testChangesRecurrenceAndRecomputesOnlyChangedDueDates() {
+        // Given
+        Chore weekly = save("Weekly", RecurrenceType.AFTER_COMPLETION, "P7D", null);
+        Chore daily = save("Daily", RecurrenceType.AFTER_COMPLETION, "P1D", null);
+        LocalDateTime weeklyDue = weekly.getNextDueDate();
+        BulkMutationRequest request = new BulkMutationRequest(BulkMutationRequest.Action.CHANGE_RECURRENCE,
+                List.of(weekly.getId(), daily.getId(), 999999L), null);
+        request.setRecurrenceType(RecurrenceType.AFTER_COMPLETION);
+        request.setRecurrencePattern("P7D");
+
+        // When
+        ChoreBulkMutationService.BulkMutationResult result = bulkMutationService.mutate(request);
+
+        // Then
+        assertThat(result.affected()).containsExactly(daily.getId());
+        assertThat(result.notFound()).containsExactly(999999L);
+        Chore updated = choreRepository.findById(daily.getId()).orElseThrow();
+        assertThat(updated.getRecurrencePattern()).isEqualTo("P7D");
+        assertThat(updated.getNextDueDate()).isEqualTo(updated.getCreatedDate().plusDays(7));
+        assertThat(choreRepository.findById(weekly.getId()).orElseThrow().getNextDueDate()).isEqualTo(weeklyDue);
+    }
+
+    @Test
+    void testDeletesChoresWithHistoryAndRemovesDiscovery() {
+        // Given
+        Chore first = save("First", RecurrenceType.ONETIME, null, alice);
+        Chore second = save("Second", RecurrenceType.ONETIME, null, alice);
+        Chore kept = save("Kept", RecurrenceType.ONETIME, null, alice);
+        choreHistoryRepository.save(new ChoreHistory(first, LocalDateTime.now()));
+        BulkMutationRequest request = new BulkMutationRequest(BulkMutationRequest.Action.DELETE,
+                List.of(first.getId(), second.getId()), null);
+
+        // When
+        ChoreBulkMutationService.BulkMutationResult result = bulkMutationService.mutate(request);
+
+        // Then
+        assertThat(result.affected()).containsExactly(first.getId(), second.getId());
+        assertThat(choreRepository.findAll()).extracting(Chore::getId).containsExactly(kept.getId());
+        assertThat(choreHistoryRepository.findByChoreId(first.getId())).isEmpty();
+        verify(mqttGateway, timeout(5000)).sendToMqtt("", ChoreMqttTopics.discoveryStatusTopic(first.getId()));
+        verify(mqttGateway, timeout(5000)).sendToMqtt("", ChoreMqttTopics.discoveryStatusTopic(second.getId()));
+    }
+
+    @Test
+    void testRejectsInvalidRequests() {
+        BulkMutationRequest noSelection = new BulkMutationRequest(BulkMutationRequest.Action.DELETE, null, null);
+        assertThatThrownBy(() -> bulkMutationService.mutate(noSelection))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Select chores by either choreIds or currentAssignee");
+
+        BulkMutationRequest badPattern = new BulkMutationRequest(BulkMutationRequest.Action.CHANGE_RECURRENCE,
+                List.of(1L), null);
+        badPattern.setRecurrenceType(RecurrenceType.FIXED_SCHEDULE);
+        badPattern.setRecurrencePattern("not a cron");
+        assertThatThrownBy(() -> bulkMutationService.mutate(badPattern))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cron pattern");
+
+        BulkMutationRequest unknownUser = new BulkMutationRequest(BulkMutationRequest.Action.REASSIGN,
+                List.of(1L), null);
+        unknownUser.setAssignedUsername("Nobody");
+        assertThatThrownBy(() -> bulkMutationService.mutate(unknownUser))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("User with name 'Nobody' not found");
+    }
+
+    private Chore save(String name, RecurrenceType type, String pattern, User user) {
+        return choreRepository.save(new Chore(name, null, type, pattern, user));
+    }
+}
@@ -0,0 +1,85 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreStatus;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.mqtt.ChoreMqttTopics;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * MQTT state of completed chores is published after commit, on another thread than the one
+ * that loaded the chore. Not transactional, so the completions commit.
+ */
+@SpringBootTest(properties = "chorehub.mqtt.publish-batch-pause=0s")
+class ChoreCompletionPublishTest {
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testCompletionPublishesAttributesOfAssignedChore() {
+        // Given
+        User alice = userRepository.save(new User("Alice", "A"));
+        Chore chore = choreRepository.save(new Chore("Dishes", null, RecurrenceType.AFTER_COMPLETION, "P1D", alice));
+
+        // When
+        choreService.markChoreAsDone(chore.getId()).orElseThrow();
+
+        // Then
+        verify(mqttGateway, timeout(5000)).sendToMqtt(
+                ChoreStatus.DONE.getHaValue(), ChoreMqttTopics.statusTopic(chore.getId()));
+        verify(mqttGateway, timeout(5000)).sendToMqtt(
+                contains("\"assignee\":\"Alice\""), eq(ChoreMqttTopics.attributesTopic(chore.getId())));
+    }
+
+    @Test
+    void testBulkCompletionPublishesAttributesOfAssignedChores() {
+        // Given
+        User bob = userRepository.save(new User("Bob", "B"));
+        Chore chore = choreRepository.save(new Chore("Laundry", null, RecurrenceType.AFTER_COMPLETION, "P7D", bob));
+
+        // When
+        choreService.markChoresAsDone(List.of(chore.getId()), null);
+
+        // Then
+        verify(mqttGateway, timeout(5000)).sendToMqtt(
+                contains("\"assignee\":\"Bob\""), eq(ChoreMqttTopics.attributesTopic(chore.getId())));
+    }
+}
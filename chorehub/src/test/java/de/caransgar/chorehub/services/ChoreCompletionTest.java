@@ -0,0 +1,147 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.repository.ChoreHistoryRepository;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Completing a chore must not load its history, so cost stays flat as history grows.
+ */
+@SpringBootTest
+@Transactional
+class ChoreCompletionTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChoreCompletionTest.class);
+    private static final int LARGE_HISTORY = 5000;
+    private static final int RUNS = 5;
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private ChoreHistoryRepository choreHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testCompletionAppendsHistoryAndUpdatesChore() {
+        // Given
+        Chore chore = choreRepository.save(new Chore("Laundry", null, RecurrenceType.AFTER_COMPLETION, "P3D", null));
+        addHistory(chore.getId(), 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Chore completed = choreService.markChoreAsDone(chore.getId()).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        Chore reloaded = choreRepository.findById(chore.getId()).orElseThrow();
+        assertThat(reloaded.getLastCompletedDate()).isEqualTo(completed.getLastCompletedDate());
+        assertThat(reloaded.getNextDueDate()).isEqualTo(completed.getLastCompletedDate().plusDays(3));
+        assertThat(choreHistoryRepository.findByChoreId(chore.getId()))
+                .hasSize(4)
+                .anyMatch(entry -> entry.getCompletedDate().equals(completed.getLastCompletedDate()));
+    }
+
+    @Test
+    void testCompletionCostStaysFlatAsHistoryGrows() {
+        // Given - one chore without history, one with years of daily completions
+        Long fresh = choreRepository.save(new Chore("Fresh", null, RecurrenceType.AFTER_COMPLETION, "P1D", null)).getId();
+        Long veteran = choreRepository.save(new Chore("Veteran", null, RecurrenceType.AFTER_COMPLETION, "P1D", null)).getId();
+        addHistory(veteran, LARGE_HISTORY);
+        complete(fresh); // warm-up
+
+        // When
+        Measurement[] freshRuns = IntStream.range(0, RUNS).mapToObj(i -> complete(fresh)).toArray(Measurement[]::new);
+        Measurement[] veteranRuns = IntStream.range(0, RUNS).mapToObj(i -> complete(veteran)).toArray(Measurement[]::new);
+
+        // Then
+        long freshNanos = median(freshRuns);
+        long veteranNanos = median(veteranRuns);
+        LOG.info("Completion with empty history: {} us, with {} entries: {} us",
+                freshNanos / 1000, LARGE_HISTORY, veteranNanos / 1000);
+
+        long freshStatements = Arrays.stream(freshRuns).mapToLong(Measurement::statements).max().orElseThrow();
+        for (Measurement run : veteranRuns) {
+            assertThat(run.collectionFetches()).isZero();
+            // A run may additionally fetch a new block of ids from the history sequence
+            assertThat(run.statements()).isLessThanOrEqualTo(freshStatements + 1);
+            assertThat(run.entityLoads()).isEqualTo(freshRuns[0].entityLoads());
+        }
+    }
+
+    private Measurement complete(Long choreId) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        choreService.markChoreAsDone(choreId);
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+
+        return new Measurement(statistics.getPrepareStatementCount(), statistics.getCollectionFetchCount(),
+                statistics.getEntityLoadCount(), elapsed);
+    }
+
+    private void addHistory(Long choreId, int entries) {
+        LocalDateTime start = LocalDateTime.of(2010, 1, 1, 8, 0);
+        jdbcTemplate.batchUpdate("INSERT INTO chore_history (chore_id, completed_date) VALUES (?, ?)",
+                IntStream.range(0, entries).boxed().toList(), 500, (ps, day) -> {
+                    ps.setLong(1, choreId);
+                    ps.setTimestamp(2, Timestamp.valueOf(start.plusDays(day)));
+                });
+    }
+
+    private static long median(Measurement[] runs) {
+        long[] nanos = Arrays.stream(runs).mapToLong(Measurement::nanos).sorted().toArray();
+        return nanos[nanos.length / 2];
+    }
+
+    private record Measurement(long statements, long collectionFetches, long entityLoads, long nanos) {}
+}
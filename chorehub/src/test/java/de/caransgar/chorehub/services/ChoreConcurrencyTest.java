@@ -0,0 +1,155 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreHistory;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.repository.ChoreHistoryRepository;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent completions of one chore must neither lose an update nor leave a history row
+ * without its completion. Not transactional: every completion commits on its own thread.
+ */
+@SpringBootTest
+class ChoreConcurrencyTest {
+
+    private static final int THREADS = 6;
+    private static final int COMPLETIONS_PER_THREAD = 10;
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private ChoreHistoryRepository choreHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentCompletionsLoseNoUpdates() throws Exception {
+        // Given
+        Chore chore = choreRepository.save(new Chore("Contended", null, RecurrenceType.AFTER_COMPLETION, "P1D", null));
+        Long choreId = chore.getId();
+        long initialVersion = chore.getVersion();
+        AtomicInteger succeeded = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < COMPLETIONS_PER_THREAD; i++) {
+                    try {
+                        choreService.markChoreAsDone(choreId).orElseThrow();
+                        succeeded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failures.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(failures).allSatisfy(e -> assertThat(e).isInstanceOf(ConcurrencyFailureException.class));
+        assertThat(succeeded.get()).isGreaterThan(0);
+
+        Chore result = choreRepository.findById(choreId).orElseThrow();
+        List<ChoreHistory> history = choreHistoryRepository.findByChoreId(choreId);
+        // Every successful completion wrote exactly one history row and one version
+        assertThat(history).hasSize(succeeded.get());
+        assertThat(result.getVersion()).isEqualTo(initialVersion + succeeded.get());
+        // The chore reflects the latest completion, not an older one that overwrote it
+        LocalDateTime latest = history.stream()
+                .map(ChoreHistory::getCompletedDate)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        assertThat(result.getLastCompletedDate()).isEqualTo(latest);
+    }
+
+    @Test
+    void testConcurrentBulkCompletionsLoseNoUpdates() throws Exception {
+        // Given
+        Chore first = choreRepository.save(new Chore("Dishes", null, RecurrenceType.AFTER_COMPLETION, "P1D", null));
+        Chore second = choreRepository.save(new Chore("Laundry", null, RecurrenceType.AFTER_COMPLETION, "P1D", null));
+        List<Long> ids = List.of(first.getId(), second.getId());
+        AtomicInteger succeeded = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < COMPLETIONS_PER_THREAD; i++) {
+                    try {
+                        choreService.markChoresAsDone(ids, null);
+                        succeeded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        failures.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then - conflicts are retried, and a bulk completion either completes all chores or none
+        assertThat(failures).allSatisfy(e -> assertThat(e).isInstanceOf(ConcurrencyFailureException.class));
+        assertThat(succeeded.get()).isGreaterThan(0);
+        for (Chore chore : List.of(first, second)) {
+            Chore result = choreRepository.findById(chore.getId()).orElseThrow();
+            assertThat(choreHistoryRepository.findByChoreId(chore.getId())).hasSize(succeeded.get());
+            assertThat(result.getVersion()).isEqualTo(chore.getVersion() + succeeded.get());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.mqtt.ChoreMqttTopics;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Not transactional: the import commits its own chunks.
+ * A chunk size of 2 makes every test span several chunks.
+ */
+@SpringBootTest(properties = {
+        "chorehub.import.chunk-size=2",
+        "chorehub.mqtt.publish-batch-pause=0s"
+})
+class ChoreImportServiceTest {
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private ChoreImportService importService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+        userRepository.save(new User("Alice", "A"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testImportsNdjsonAndReportsInvalidLines() throws IOException {
+        // Given
+        String body = """
+                {"name":"Dishes","recurrenceType":"AFTER_COMPLETION","recurrencePattern":"P1D","assignedUsername":"Alice"}
+                {"name":"Broken",
+                {"name":"Mow lawn","recurrenceType":"FIXED_SCHEDULE","recurrencePattern":"not a cron"}
+
+                {"name":"Vacuum","recurrenceType":"AFTER_COMPLETION","recurrencePattern":"P7D","assignedUsername":"Nobody"}
+                {"name":"Buy gift","recurrenceType":"ONETIME"}
+                {"name":"Windows","recurrenceType":"FIXED_SCHEDULE","recurrencePattern":"0 0 9 1 * *"}
+                """;
+
+        // When
+        ChoreImportService.ImportResult result = importService.importChores(stream(body),
+                ChoreImportService.Format.NDJSON);
+
+        // Then
+        assertThat(result.received()).isEqualTo(6);
+        assertThat(result.createdIds()).hasSize(3);
+        assertThat(result.errors()).extracting(ChoreImportService.ImportError::line).containsExactly(2, 3, 5);
+        assertThat(result.errors().get(1).message()).startsWith("Invalid cron pattern");
+        assertThat(result.errors().get(2).message()).isEqualTo("User with name 'Nobody' not found");
+
+        assertThat(choreRepository.findAllById(result.createdIds()))
+                .extracting(Chore::getName)
+                .containsExactlyInAnyOrder("Dishes", "Buy gift", "Windows");
+        Chore dishes = choreRepository.findWithAssignedUserByIdIn(result.createdIds().subList(0, 1)).get(0);
+        assertThat(dishes.getAssignedUser().getName()).isEqualTo("Alice");
+        assertThat(dishes.getRecurrenceType()).isEqualTo(RecurrenceType.AFTER_COMPLETION);
+        assertThat(dishes.getNextDueDate()).isNotNull();
+    }
+
+    @Test
+    void testImportsJsonArrayUntilSyntaxError() throws IOException {
+        // Given
+        String body = """
+                [
+                  {"name":"First","recurrenceType":"ONETIME"},
+                  {"name":"Second","recurrenceType":"WEEKLY"},
+                  null,
+                  {"name":"Third","recurrenceType":"ONETIME"},
+                  {"name": ]
+                """;
+
+        // When
+        ChoreImportService.ImportResult result = importService.importChores(stream(body),
+                ChoreImportService.Format.JSON_ARRAY);
+
+        // Then
+        assertThat(result.createdIds()).hasSize(2);
+        assertThat(result.errors()).extracting(ChoreImportService.ImportError::line).containsExactly(2, 3, 5);
+        assertThat(choreRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testRejectsJsonBodyThatIsNotAnArray() {
+        assertThatThrownBy(() -> importService.importChores(stream("{\"name\":\"Single\"}"),
+                ChoreImportService.Format.JSON_ARRAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testPublishesDiscoveryAndStateForCreatedChores() throws IOException {
+        // Given
+        String body = """
+                {"name":"One","recurrenceType":"ONETIME"}
+                {"name":"Two","recurrenceType":"ONETIME"}
+                {"name":"Three","recurrenceType":"ONETIME"}
+                """;
+
+        // When
+        ChoreImportService.ImportResult result = importService.importChores(stream(body),
+                ChoreImportService.Format.NDJSON);
+
+        // Then
+        for (Long id : result.createdIds()) {
+            verify(mqttGateway, timeout(5000)).sendToMqtt(anyString(), eq(ChoreMqttTopics.discoveryStatusTopic(id)));
+            verify(mqttGateway, timeout(5000)).sendToMqtt(anyString(), eq(ChoreMqttTopics.statusTopic(id)));
+        }
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,218 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.dto.ChoreDTO;
+import de.caransgar.chorehub.dto.ChoreSort;
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.ChoreStatus;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional: the read model is only refreshed after commit.
+ */
+@SpringBootTest(properties = "chorehub.read-model.enabled=true")
+class ChoreReadModelTest {
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private ChoreReadModel readModel;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+        // deleteAll bypasses ChoreService and publishes no change events
+        readModel.reloadAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testFollowsCommittedChanges() {
+        // Given
+        Chore chore = overdue("Dishes", null);
+        assertThat(readModel.isServing()).isTrue();
+        assertThat(readModel.getDueChores(null)).extracting(ChoreDTO::getId).containsExactly(chore.getId());
+
+        // When
+        choreService.markChoreAsDone(chore.getId());
+
+        // Then
+        ChoreDTO done = readModel.findChores(ChoreService.ChoreFilter.NONE, ChoreSort.DEFAULT, null, 10)
+                .chores().getFirst();
+        assertThat(done.getLastCompletedDate()).isNotNull();
+        assertThat(readModel.getDueChores(null)).isEmpty();
+
+        // When
+        choreService.deleteChore(chore.getId());
+
+        // Then
+        assertThat(readModel.size()).isZero();
+    }
+
+    @Test
+    void testPagesLikeTheDatabase() {
+        // Given
+        User alice = userRepository.save(new User("Alice", "A"));
+        save("Daily", RecurrenceType.AFTER_COMPLETION, "P1D", alice);
+        save("Weekly", RecurrenceType.AFTER_COMPLETION, "P7D", null);
+        save("Monthly", RecurrenceType.AFTER_COMPLETION, "P30D", alice);
+        save("Fixed", RecurrenceType.FIXED_SCHEDULE, "0 0 8 * * MON", null);
+        save("Once", RecurrenceType.ONETIME, null, alice);
+        overdue("Late", alice);
+        overdue("Later", null);
+        // No due date
+        Chore done = save("Once done", RecurrenceType.ONETIME, null, null);
+        choreService.markChoreAsDone(done.getId());
+
+        for (ChoreSort sort : List.of(ChoreSort.DEFAULT, ChoreSort.parse("id,desc"),
+                ChoreSort.parse("nextDueDate"), ChoreSort.parse("nextDueDate,desc"))) {
+            for (ChoreService.ChoreFilter filter : List.of(ChoreService.ChoreFilter.NONE,
+                    new ChoreService.ChoreFilter(alice, null, null, null, null),
+                    new ChoreService.ChoreFilter(null, RecurrenceType.AFTER_COMPLETION, null, null, null),
+                    // Served from the due date indexes
+                    new ChoreService.ChoreFilter(null, null, ChoreStatus.OVERDUE, null, null),
+                    new ChoreService.ChoreFilter(alice, null, null, null, LocalDateTime.now().plusDays(10)))) {
+                // When
+                List<Long> fromMemory = new ArrayList<>();
+                String after = null;
+                do {
+                    ChoreReadModel.ChoreDTOPage page = readModel.findChores(filter, sort, after, 2);
+                    page.chores().forEach(chore -> fromMemory.add(chore.getId()));
+                    after = page.nextCursor();
+                } while (after != null);
+
+                List<Long> fromDatabase = new ArrayList<>();
+                after = null;
+                do {
+                    ChoreService.ChorePage page = choreService.findChores(filter, sort, after, 2);
+                    page.chores().forEach(chore -> fromDatabase.add(chore.getId()));
+                    after = page.nextCursor();
+                } while (after != null);
+
+                // Then
+                assertThat(fromMemory).as("%s %s", sort, filter).isEqualTo(fromDatabase);
+            }
+        }
+        assertThat(readModel.getDueChores(alice.getId())).extracting(ChoreDTO::getId)
+                .containsExactlyElementsOf(choreService.getDueChoreDTOs(alice).stream().map(ChoreDTO::getId).toList());
+        assertThat(readModel.getUpcomingChores(alice.getId(), 2)).extracting(ChoreDTO::getId)
+                .containsExactlyElementsOf(choreService.getUpcomingChoreDTOs(alice, 2).stream()
+                        .map(ChoreDTO::getId).toList());
+        assertThat(readModel.getUpcomingChores(null, 4)).extracting(ChoreDTO::getId)
+                .containsExactlyElementsOf(choreService.getUpcomingChoreDTOs(null, 4).stream()
+                        .map(ChoreDTO::getId).toList());
+    }
+
+    @Test
+    void testDueIndexesFollowReassignmentAndCompletion() {
+        // Given
+        User alice = userRepository.save(new User("Alice", "A"));
+        User bob = userRepository.save(new User("Bob", "B"));
+        Chore chore = save("Dishes", RecurrenceType.AFTER_COMPLETION, "P1D", alice);
+        Chore overdue = overdue("Overdue", alice);
+        assertThat(readModel.getDueChores(alice.getId())).extracting(ChoreDTO::getId).containsExactly(overdue.getId());
+
+        // When
+        choreService.updateChore(overdue.getId(), null, c -> c.setAssignedUser(bob));
+
+        // Then
+        assertThat(readModel.getDueChores(alice.getId())).isEmpty();
+        assertThat(readModel.getDueChores(bob.getId())).extracting(ChoreDTO::getId).containsExactly(overdue.getId());
+        assertThat(readModel.overdueCount()).isEqualTo(1);
+
+        // When
+        choreService.markChoreAsDone(overdue.getId());
+
+        // Then
+        assertThat(readModel.getDueChores(null)).isEmpty();
+        assertThat(readModel.overdueCount()).isZero();
+        assertThat(readModel.findChores(new ChoreService.ChoreFilter(alice, null, null, null,
+                LocalDateTime.now().plusDays(2)), ChoreSort.DEFAULT, null, 10).chores())
+                .extracting(ChoreDTO::getId)
+                .containsExactly(chore.getId());
+    }
+
+    @Test
+    void testRefreshDoesNotResurrectDeletedChore() {
+        // Given - a refresh that loaded the chore before its deletion committed, applied after it
+        Chore chore = save("Dishes", RecurrenceType.AFTER_COMPLETION, "P1D", null);
+        readModel.onChoresChanged(ChoresChangedEvent.deleted(chore.getId()));
+
+        // When
+        readModel.onChoresChanged(ChoresChangedEvent.changed(chore.getId()));
+        readModel.reloadAll();
+
+        // Then
+        assertThat(readModel.getChore(chore.getId())).isEmpty();
+        assertThat(readModel.getUpcomingChores(null, 10)).isEmpty();
+    }
+
+    @Test
+    void testConsistencyCheckRepairsChangesMadeBehindItsBack() {
+        // Given
+        Chore renamed = save("Dishes", RecurrenceType.ONETIME, null, null);
+        Chore deleted = save("Laundry", RecurrenceType.ONETIME, null, null);
+        jdbcTemplate.update("UPDATE chores SET name = 'Wash up', version = version + 1 WHERE id = ?", renamed.getId());
+        jdbcTemplate.update("DELETE FROM chores WHERE id = ?", deleted.getId());
+        jdbcTemplate.update("INSERT INTO chores (name, recurrence_type, created_date) VALUES ('Garden', 'ONETIME', ?)",
+                renamed.getCreatedDate());
+
+        // When
+        ChoreReadModel.ConsistencyReport report = readModel.checkConsistency();
+
+        // Then
+        assertThat(report.checked()).isEqualTo(2);
+        assertThat(report.missing()).isEqualTo(1);
+        assertThat(report.stale()).isEqualTo(1);
+        assertThat(report.orphaned()).isEqualTo(1);
+        assertThat(readModel.findChores(ChoreService.ChoreFilter.NONE, ChoreSort.DEFAULT, null, 10).chores())
+                .extracting(ChoreDTO::getName)
+                .containsExactlyInAnyOrder("Wash up", "Garden");
+        assertThat(readModel.checkConsistency().repaired()).isZero();
+    }
+
+    private Chore save(String name, RecurrenceType type, String pattern, User user) {
+        return choreService.saveChore(new Chore(name, null, type, pattern, user));
+    }
+
+    private Chore overdue(String name, User user) {
+        Chore chore = new Chore(name, null, RecurrenceType.AFTER_COMPLETION, "P1D", user);
+        chore.setNextDueDate(LocalDateTime.now().minusHours(1));
+        return choreService.saveChore(chore);
+    }
+}
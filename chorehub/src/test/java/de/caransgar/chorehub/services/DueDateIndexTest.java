@@ -0,0 +1,81 @@
+package de.caransgar.chorehub.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DueDateIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 8, 0);
+
+    @Test
+    void testKeepsEntriesOrderedByDueDateThenId() {
+        // Given
+        DueDateIndex index = new DueDateIndex();
+
+        // When
+        index.add(3, MONDAY.plusDays(2));
+        index.add(7, MONDAY);
+        index.add(5, MONDAY);
+        index.add(1, MONDAY.plusDays(1));
+
+        // Then
+        assertThat(index.nextDue(10)).containsExactly(5, 7, 1, 3);
+        assertThat(index.nextDue(2)).containsExactly(5, 7);
+        assertThat(index.nextDue(0)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void testDueBeforeIsExclusiveDownToTheNanosecond() {
+        // Given
+        DueDateIndex index = new DueDateIndex();
+        index.add(1, MONDAY.withNano(500));
+        index.add(2, MONDAY.withNano(501));
+        index.add(3, MONDAY.minusDays(1));
+
+        // Then
+        assertThat(index.dueBefore(MONDAY)).containsExactly(3);
+        assertThat(index.dueBefore(MONDAY.withNano(501))).containsExactly(3, 1);
+        assertThat(index.dueBefore(MONDAY.plusSeconds(1))).containsExactly(3, 1, 2);
+        assertThat(index.countDueBefore(MONDAY.withNano(501))).isEqualTo(2);
+        assertThat(index.dueBefore(MONDAY.minusYears(1))).isEmpty();
+    }
+
+    @Test
+    void testRemovesOnlyTheGivenEntry() {
+        // Given
+        DueDateIndex index = new DueDateIndex();
+        index.add(1, MONDAY);
+        index.add(2, MONDAY);
+        index.add(3, MONDAY.plusDays(1));
+
+        // When / Then
+        assertThat(index.remove(2, MONDAY.plusDays(1))).isFalse();
+        assertThat(index.remove(2, MONDAY)).isTrue();
+        assertThat(index.remove(2, MONDAY)).isFalse();
+        assertThat(index.nextDue(10)).containsExactly(1, 3);
+
+        // A completion moves the chore
+        index.remove(1, MONDAY);
+        index.add(1, MONDAY.plusDays(7));
+        assertThat(index.nextDue(10)).containsExactly(3, 1);
+    }
+
+    @Test
+    void testReplaceAllRebuildsTheIndex() {
+        // Given
+        DueDateIndex index = new DueDateIndex();
+        index.add(9, MONDAY);
+
+        // When
+        index.replaceAll(Map.of(4L, MONDAY.plusHours(1), 2L, MONDAY.plusHours(1), 8L, MONDAY.minusHours(1)));
+
+        // Then
+        assertThat(index.nextDue(10)).containsExactly(8, 2, 4);
+        assertThat(index.dueBefore(MONDAY)).containsExactly(8);
+    }
+}
@@ -0,0 +1,105 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "chorehub.recompute.chunk-size=2")
+@Transactional
+class DueDateRecomputationServiceTest {
+
+    @Autowired
+    private DueDateRecomputationService recomputationService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testRecomputeFixesStaleDueDatesOnly() {
+        // Given - one stale and two up-to-date recurring chores, spread over several chunks
+        Chore stale = new Chore("Stale", null, RecurrenceType.AFTER_COMPLETION, "P7D", null);
+        stale.setNextDueDate(LocalDateTime.now().plusYears(3));
+        stale = choreRepository.save(stale);
+        Chore upToDate = choreRepository.save(new Chore("Up to date", null, RecurrenceType.AFTER_COMPLETION, "P14D", null));
+        Chore alsoUpToDate = choreRepository.save(new Chore("Also up to date", null, RecurrenceType.AFTER_COMPLETION, "P1D", null));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        DueDateRecomputationService.RecomputationProgress result = recomputationService.recomputeAll();
+
+        // Then
+        entityManager.clear();
+        Chore recomputed = choreRepository.findById(stale.getId()).orElseThrow();
+        assertThat(result.running()).isFalse();
+        assertThat(result.processed()).isEqualTo(3);
+        assertThat(result.changed()).isEqualTo(1);
+        assertThat(recomputed.getNextDueDate()).isEqualTo(recomputed.getCreatedDate().plusDays(7));
+        Chore reloadedUpToDate = choreRepository.findById(upToDate.getId()).orElseThrow();
+        assertThat(reloadedUpToDate.getNextDueDate()).isEqualTo(reloadedUpToDate.getCreatedDate().plusDays(14));
+        Chore reloadedAlsoUpToDate = choreRepository.findById(alsoUpToDate.getId()).orElseThrow();
+        assertThat(reloadedAlsoUpToDate.getNextDueDate()).isEqualTo(reloadedAlsoUpToDate.getCreatedDate().plusDays(1));
+        assertThat(recomputationService.getProgress()).isEqualTo(result);
+    }
+
+    @Test
+    void testRecomputeKeepsOverdueFixedScheduleChoresOverdue() {
+        // Given - daily chore created two days ago and never completed
+        Chore overdue = new Chore("Water plants", null, RecurrenceType.FIXED_SCHEDULE, "0 0 8 * * *", null);
+        overdue.setCreatedDate(LocalDateTime.of(2024, 3, 1, 12, 0));
+        overdue.setNextDueDate(LocalDateTime.of(2024, 3, 5, 8, 0));
+        overdue = choreRepository.save(overdue);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        recomputationService.recomputeAll();
+
+        // Then - due at the first occurrence after creation, not moved into the future
+        entityManager.clear();
+        assertThat(choreRepository.findById(overdue.getId()).orElseThrow().getNextDueDate())
+                .isEqualTo(LocalDateTime.of(2024, 3, 2, 8, 0));
+    }
+
+    @Test
+    void testRecomputeLeavesOneTimeChoresAlone() {
+        // Given
+        LocalDateTime deadline = LocalDateTime.of(2030, 1, 1, 12, 0);
+        Chore oneTime = new Chore("Paint fence", null, RecurrenceType.ONETIME, null, null);
+        oneTime.setNextDueDate(deadline);
+        oneTime = choreRepository.save(oneTime);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        DueDateRecomputationService.RecomputationProgress result = recomputationService.recomputeAll();
+
+        // Then
+        entityManager.clear();
+        assertThat(result.processed()).isZero();
+        assertThat(choreRepository.findById(oneTime.getId()).orElseThrow().getNextDueDate()).isEqualTo(deadline);
+    }
+}
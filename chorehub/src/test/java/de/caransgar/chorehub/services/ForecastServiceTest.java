@@ -0,0 +1,194 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.dto.ChoreOccurrenceDTO;
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ForecastServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private ForecastService forecastService;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+        alice = userRepository.save(new User("Alice", "A"));
+        forecastService.onChoresChanged(ChoresChangedEvent.allChanged());
+    }
+
+    @Test
+    void testForecastMergesOccurrencesOfAllChoresInOrder() {
+        // Given - daily at 08:00 and every 3 days at 12:00
+        createChore("Water plants", RecurrenceType.FIXED_SCHEDULE, "0 0 8 * * *", FROM.withHour(8), null);
+        createChore("Laundry", RecurrenceType.AFTER_COMPLETION, "P3D", FROM.withHour(12), alice);
+
+        // When
+        List<ChoreOccurrenceDTO> occurrences = forecastService.forecast(FROM, FROM.plusDays(7), null, 0);
+
+        // Then
+        assertThat(occurrences).hasSize(7 + 3);
+        assertThat(occurrences).extracting(ChoreOccurrenceDTO::getDueDate).isSorted();
+        assertThat(occurrences).filteredOn(o -> o.getChoreName().equals("Laundry"))
+                .extracting(ChoreOccurrenceDTO::getDueDate)
+                .containsExactly(FROM.withHour(12), FROM.plusDays(3).withHour(12), FROM.plusDays(6).withHour(12));
+        assertThat(occurrences).filteredOn(o -> o.getChoreName().equals("Laundry"))
+                .extracting(ChoreOccurrenceDTO::getAssignedUsername).containsOnly("Alice");
+    }
+
+    @Test
+    void testForecastSkipsOccurrencesBeforeWindow() {
+        // Given - overdue chores: their chains start before the window
+        createChore("Water plants", RecurrenceType.FIXED_SCHEDULE, "0 0 8 * * *", FROM.minusDays(30).withHour(8), null);
+        createChore("Vacuum", RecurrenceType.AFTER_COMPLETION, "PT1H", FROM.minusYears(1), null);
+        createChore("Old one-time", RecurrenceType.ONETIME, null, FROM.minusDays(1), null);
+
+        // When
+        List<ChoreOccurrenceDTO> occurrences = forecastService.forecast(FROM, FROM.plusDays(1), null, 0);
+
+        // Then
+        assertThat(occurrences).filteredOn(o -> o.getChoreName().equals("Water plants"))
+                .extracting(ChoreOccurrenceDTO::getDueDate).containsExactly(FROM.withHour(8));
+        assertThat(occurrences).filteredOn(o -> o.getChoreName().equals("Vacuum")).hasSize(24);
+        assertThat(occurrences).noneMatch(o -> o.getChoreName().equals("Old one-time"));
+    }
+
+    @Test
+    void testForecastFiltersByUserAndRespectsLimit() {
+        // Given
+        createChore("Water plants", RecurrenceType.FIXED_SCHEDULE, "0 0 8 * * *", FROM.withHour(8), alice);
+        createChore("Laundry", RecurrenceType.AFTER_COMPLETION, "P1D", FROM.withHour(12), null);
+
+        // When
+        List<ChoreOccurrenceDTO> aliceOccurrences = forecastService.forecast(FROM, FROM.plusDays(28), alice, 0);
+        List<ChoreOccurrenceDTO> limited = forecastService.forecast(FROM, FROM.plusDays(28), null, 5);
+
+        // Then
+        assertThat(aliceOccurrences).hasSize(28).allMatch(o -> o.getChoreName().equals("Water plants"));
+        assertThat(limited).extracting(ChoreOccurrenceDTO::getDueDate).containsExactly(
+                FROM.withHour(8), FROM.withHour(12), FROM.plusDays(1).withHour(8),
+                FROM.plusDays(1).withHour(12), FROM.plusDays(2).withHour(8));
+    }
+
+    @Test
+    void testCachedExpansionIsInvalidatedWhenChoreIsEdited() {
+        // Given - a cached forecast
+        Chore chore = createChore("Laundry", RecurrenceType.AFTER_COMPLETION, "P3D", FROM.withHour(12), null);
+        forecastService.forecast(FROM, FROM.plusDays(7), null, 0);
+        assertThat(forecastService.cachedChoreCount()).isEqualTo(1);
+
+        // When - the chore is rescheduled through the service
+        chore.setRecurrencePattern("P2D");
+        chore.setNextDueDate(FROM.plusDays(1).withHour(12));
+        choreService.saveChore(chore);
+
+        // Then
+        assertThat(forecastService.cachedChoreCount()).isZero();
+        assertThat(forecastService.forecast(FROM, FROM.plusDays(7), null, 0))
+                .extracting(ChoreOccurrenceDTO::getDueDate)
+                .containsExactly(FROM.plusDays(1).withHour(12), FROM.plusDays(3).withHour(12),
+                        FROM.plusDays(5).withHour(12));
+    }
+
+    @Test
+    void testMovingWindowReusesCachedExpansion() {
+        // Given
+        createChore("Water plants", RecurrenceType.FIXED_SCHEDULE, "0 0 8 * * *", FROM.withHour(8), null);
+        List<ChoreOccurrenceDTO> first = forecastService.forecast(FROM, FROM.plusDays(28), null, 0);
+        long expansions = forecastService.expansionCount();
+
+        // When - the dashboard polls again a few hours later
+        List<ChoreOccurrenceDTO> later = forecastService.forecast(FROM.plusHours(9), FROM.plusDays(28).plusHours(9), null, 0);
+
+        // Then
+        assertThat(forecastService.expansionCount()).isEqualTo(expansions);
+        assertThat(first).hasSize(28);
+        assertThat(later).hasSize(28);
+        assertThat(later.get(0).getDueDate()).isEqualTo(FROM.plusDays(1).withHour(8));
+        assertThat(later.get(27).getDueDate()).isEqualTo(FROM.plusDays(28).withHour(8));
+    }
+
+    @Test
+    void testLimitedForecastOnlyExpandsReturnedOccurrences() {
+        // Given - every 15 minutes, far more occurrences than the limit within a year
+        createChore("Check sensor", RecurrenceType.AFTER_COMPLETION, "PT15M", FROM, null);
+
+        // When
+        List<ChoreOccurrenceDTO> occurrences = forecastService.forecast(FROM, FROM.plusDays(365), null, 5);
+
+        // Then - the returned occurrences plus one lookahead
+        assertThat(occurrences).extracting(ChoreOccurrenceDTO::getDueDate)
+                .containsExactly(FROM, FROM.plusMinutes(15), FROM.plusMinutes(30), FROM.plusMinutes(45), FROM.plusHours(1));
+        assertThat(forecastService.cachedOccurrenceCount()).isEqualTo(6);
+    }
+
+    @Test
+    void testForecastTruncatedByLimitReusesCachedExpansion() {
+        // Given
+        createChore("Check sensor", RecurrenceType.AFTER_COMPLETION, "PT15M", FROM, null);
+        List<ChoreOccurrenceDTO> first = forecastService.forecast(FROM, FROM.plusDays(365), null, 5);
+        long expansions = forecastService.expansionCount();
+
+        // When - the same window again, then a larger limit and a later, longer window
+        List<ChoreOccurrenceDTO> again = forecastService.forecast(FROM, FROM.plusDays(365), null, 5);
+        List<ChoreOccurrenceDTO> more = forecastService.forecast(FROM, FROM.plusDays(365), null, 100);
+        List<ChoreOccurrenceDTO> later = forecastService.forecast(FROM.plusDays(2), FROM.plusDays(366), null, 100);
+
+        // Then - the expansion is continued instead of rebuilt
+        assertThat(forecastService.expansionCount()).isEqualTo(expansions);
+        assertThat(again).extracting(ChoreOccurrenceDTO::getDueDate)
+                .isEqualTo(first.stream().map(ChoreOccurrenceDTO::getDueDate).toList());
+        assertThat(more).hasSize(100);
+        assertThat(more.get(99).getDueDate()).isEqualTo(FROM.plusMinutes(15 * 99));
+        assertThat(later).hasSize(100);
+        assertThat(later.get(0).getDueDate()).isEqualTo(FROM.plusDays(2));
+    }
+
+    @Test
+    void testInvalidWindowsAreRejected() {
+        assertThatThrownBy(() -> forecastService.forecast(FROM, FROM, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> forecastService.forecast(FROM, FROM.plusYears(2), null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Chore createChore(String name, RecurrenceType type, String pattern, LocalDateTime nextDueDate,
+            User user) {
+        Chore chore = new Chore();
+        chore.setName(name);
+        chore.setRecurrenceType(type);
+        chore.setRecurrencePattern(pattern);
+        chore.setAssignedUser(user);
+        chore.setCreatedDate(FROM.minusYears(2));
+        chore.setNextDueDate(nextDueDate);
+        return choreRepository.save(chore);
+    }
+}
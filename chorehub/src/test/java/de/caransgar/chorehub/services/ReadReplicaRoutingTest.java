@@ -0,0 +1,110 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.migration.V3__Use_sequences_for_ids;
+import de.caransgar.chorehub.mqtt.MqttGateway;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read-only transactions go to the replica, everything else to the primary.
+ * Primary and replica are two separate H2 databases; nothing replicates between them,
+ * so where a chore is found shows which one was read.
+ * Not transactional: an outer test transaction would keep every read on the primary.
+ */
+@SpringBootTest(properties = {
+        "chorehub.datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "chorehub.datasource.replica.username=sa"
+})
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MariaDB;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @MockitoBean
+    private MqttGateway mqttGateway;
+
+    @Autowired
+    private ChoreService choreService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void migrateReplica() {
+        // In production the database replicates the schema; here the replica is migrated by hand
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .javaMigrations(new V3__Use_sequences_for_ids())
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        REPLICA.update("DELETE FROM chores");
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+        REPLICA.update("DELETE FROM chores");
+    }
+
+    @Test
+    void testReadOnlyMethodsReadFromReplica() {
+        // Given
+        Chore written = choreRepository.save(new Chore("Primary only", null, RecurrenceType.ONETIME, null, null));
+        REPLICA.update("INSERT INTO chores (name, recurrence_type, created_date) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                "Replica only", RecurrenceType.ONETIME.name());
+
+        // When
+        List<Chore> chores = choreService.getAllChores();
+
+        // Then
+        assertThat(chores).extracting(Chore::getName).containsExactly("Replica only");
+        assertThat(userService.getAllUsers()).isEmpty();
+        // Lookups before a write stay on the primary
+        assertThat(choreService.getChoreById(written.getId())).isPresent();
+    }
+
+    @Test
+    void testReadOnlyMethodsJoiningReadWriteTransactionReadFromPrimary() {
+        // Given
+        REPLICA.update("INSERT INTO chores (name, recurrence_type, created_date) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                "Replica only", RecurrenceType.ONETIME.name());
+
+        // When
+        List<String> names = new TransactionTemplate(transactionManager).execute(status -> {
+            choreRepository.save(new Chore("Just written", null, RecurrenceType.ONETIME, null, null));
+            return choreService.getAllChores().stream().map(Chore::getName).toList();
+        });
+
+        // Then
+        assertThat(names).containsExactly("Just written");
+    }
+}
@@ -0,0 +1,122 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional: the second-level cache is only populated and invalidated on commit.
+ */
+@SpringBootTest
+class UserCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        alice = userService.saveUser(new User("Alice", "A"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testRepeatedLookupByNameDoesNotQueryTheDatabase() {
+        // Given
+        assertThat(userService.getUserByName("Alice")).isPresent();
+        statistics.clear();
+
+        // When
+        User found = userService.getUserByName("Alice").orElseThrow();
+
+        // Then
+        assertThat(found.getId()).isEqualTo(alice.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(UserRepository.BY_NAME_CACHE_REGION).getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testLookupByIdIsServedFromTheCache() {
+        // Given
+        assertThat(userService.getUserById(alice.getId())).isPresent();
+        statistics.clear();
+
+        // When
+        User found = userRepository.findById(alice.getId()).orElseThrow();
+
+        // Then
+        assertThat(found.getName()).isEqualTo("Alice");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(User.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRenameInvalidatesLookupByName() {
+        // Given
+        assertThat(userService.getUserByName("Alice")).isPresent();
+
+        // When
+        alice.setName("Alicia");
+        userService.saveUser(alice);
+
+        // Then
+        assertThat(userService.getUserByName("Alice")).isEmpty();
+        assertThat(userService.getUserByName("Alicia")).get().extracting(User::getId).isEqualTo(alice.getId());
+    }
+
+    @Test
+    void testDeleteInvalidatesLookupByName() {
+        // Given
+        assertThat(userService.getUserByName("Alice")).isPresent();
+
+        // When
+        userService.deleteUser(alice.getId());
+
+        // Then
+        assertThat(userService.getUserByName("Alice")).isEmpty();
+        assertThat(userService.getUserById(alice.getId())).isEmpty();
+    }
+
+    @Test
+    void testCleanupEvictsDeletedUsers() {
+        // Given
+        userService.deleteUser(alice.getId());
+        assertThat(userRepository.findById(alice.getId())).isPresent();
+
+        // When
+        userService.cleanupDeletedUsers();
+
+        // Then
+        assertThat(userRepository.findById(alice.getId())).isEmpty();
+    }
+}
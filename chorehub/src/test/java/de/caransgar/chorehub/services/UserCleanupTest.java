@@ -0,0 +1,69 @@
+package de.caransgar.chorehub.services;
+
+import de.caransgar.chorehub.entity.Chore;
+import de.caransgar.chorehub.entity.RecurrenceType;
+import de.caransgar.chorehub.entity.User;
+import de.caransgar.chorehub.repository.ChoreRepository;
+import de.caransgar.chorehub.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cleanup of soft-deleted users across several chunks. A chunk size of 2 makes a handful of
+ * users span several chunks; the other user tests run with the default configuration.
+ */
+@SpringBootTest(properties = "chorehub.user-cleanup.chunk-size=2")
+@Transactional
+class UserCleanupTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChoreRepository choreRepository;
+
+    @BeforeEach
+    void setUp() {
+        choreRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testCleanupDeletedUsersRemovesDeletedUsersInChunksAndKeepsActiveUsers() {
+        // Given
+        User active = userRepository.save(new User("Active", "A"));
+        Chore activeChore = choreRepository.save(new Chore("Kept", null, RecurrenceType.ONETIME, null, active));
+        List<Long> choreIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = userRepository.save(new User("Deleted " + i, "D" + i));
+            choreIds.add(choreRepository.save(new Chore("Chore " + i, null, RecurrenceType.ONETIME, null, user)).getId());
+            userService.deleteUser(user.getId());
+        }
+
+        // When
+        UserService.CleanupDeletedUsersResult result = userService.cleanupDeletedUsers();
+
+        // Then
+        assertThat(result.deletedUsersFound()).isEqualTo(5);
+        assertThat(result.choresUnassigned()).isEqualTo(5);
+        assertThat(result.usersDeleted()).isEqualTo(5);
+        assertThat(userRepository.findAll()).extracting(User::getName).containsExactly("Active");
+        assertThat(choreRepository.findAllById(choreIds))
+                .hasSize(5)
+                .allSatisfy(chore -> assertThat(chore.getAssignedUser()).isNull());
+        assertThat(choreRepository.findById(activeChore.getId()).orElseThrow().getAssignedUser().getId())
+                .isEqualTo(active.getId());
+        assertThat(userService.cleanupDeletedUsers().deletedUsersFound()).isZero();
+    }
+}